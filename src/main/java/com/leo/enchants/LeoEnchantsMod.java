@@ -2,30 +2,34 @@ package com.leo.enchants;
 
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
-import net.fabricmc.fabric.api.event.player.UseItemCallback;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.enchantment.Enchantment;
-import net.minecraft.enchantment.EnchantmentHelper;
-import net.minecraft.item.ItemStack;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
-import net.minecraft.registry.tag.ItemTags;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.util.ActionResult;
 import net.minecraft.util.Identifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.leo.enchants.attachment.ModAttachments;
 import com.leo.enchants.entity.ModEntities;
 import com.leo.enchants.item.ModItems;
+import com.leo.enchants.logic.AnvilCostTable;
 import com.leo.enchants.logic.DeEnchantHandler;
 import com.leo.enchants.logic.FallDamageImmunity;
-import com.leo.enchants.logic.GiantSwordLogic;
 import com.leo.enchants.logic.HookshotHandler;
+import com.leo.enchants.logic.ItemUseDispatcher;
 import com.leo.enchants.logic.MirrorWorldHandler;
+import com.leo.enchants.logic.MovementAbilities;
 import com.leo.enchants.logic.ObsidianLoreHandler;
+import com.leo.enchants.logic.PortalEntryTracker;
+import com.leo.enchants.logic.PullSync;
 import com.leo.enchants.logic.ShadowAssassinHandler;
 import com.leo.enchants.logic.QuantumTunnellingHandler;
-import com.leo.enchants.logic.WitherImpactLogic;
+import com.leo.enchants.logic.TemporaryBlocks;
+import com.leo.enchants.logic.WitherImpactBlast;
+import com.leo.enchants.monster.EnhancementBudget;
+import com.leo.enchants.monster.MobBlockLedger;
 import com.leo.enchants.network.ModNetworking;
 
 public class LeoEnchantsMod implements ModInitializer {
@@ -57,86 +61,65 @@ public class LeoEnchantsMod implements ModInitializer {
         // Register items
         ModItems.register();
         
+        // Register per-player ability state attachment
+        ModAttachments.register();
+        
         // Register de-enchant item event handlers
         DeEnchantHandler.register();
         
         // Register obsidian lore item event handlers
         ObsidianLoreHandler.register();
 
-        // Register networking for double jump fall damage immunity sync
+        // Register data-driven anvil combination costs
+        AnvilCostTable.register();
+
+        // Register decay and per-chunk caps for blocks placed by builder zombies
+        MobBlockLedger.register();
+
+        // Register restoration of temporary ability blocks (Obsidian Lore, Space Travel platforms)
+        TemporaryBlocks.register();
+
+        // Register Space Travel portal entry detection
+        PortalEntryTracker.register();
+
+        // Register merged Wither Impact blasts
+        WitherImpactBlast.register();
+
+        // Register per-world limits for builder zombies, missile creepers and skeleton shots
+        EnhancementBudget.register();
+
+        // Register networking for Double Jump / Strafe input
         ModNetworking.registerServerReceivers();
 
         // Register server tick event for fall damage immunity (Wither Impact & Double Jump) and Hookshot holds
         ServerTickEvents.END_SERVER_TICK.register(server -> {
             long currentTime = server.getOverworld().getTime();
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                FallDamageImmunity.tickImmunity(player, currentTime);
+                // Double Jump / Strafe: re-arm on landing, apply held strafe keys
+                MovementAbilities.tick(player);
+                // Immunity is granted on the player's own world clock
+                FallDamageImmunity.tickImmunity(player, player.getWorld().getTime());
                 // Tick quantum tunnelling
                 QuantumTunnellingHandler.tick(player, currentTime);
+                // Tick hookshot hold (in the player's own dimension)
+                HookshotHandler.tickHold(player);
+                // Correct Grab / Hookshot pulls the client drifted off
+                PullSync.tick(player);
+                // Refund shadow assassin health once the clones have struck
+                ShadowAssassinHandler.tickRestoration(player, player.getWorld().getTime());
             }
             
-            // Tick hookshot holds in all worlds
+            // Tick mirror worlds in all worlds
             for (var world : server.getWorlds()) {
-                HookshotHandler.tickHolds(world);
-                // Tick mirror worlds
                 MirrorWorldHandler.tickMirrorWorlds(world);
             }
-            
-            ShadowAssassinHandler.tickRestorations(server, currentTime);
-        });
-
-        // Register Event Listener for Wither Impact activation
-        UseItemCallback.EVENT.register((player, world, hand) -> {
-            ItemStack stack = player.getStackInHand(hand);
-            if (!stack.isEmpty() && stack.isIn(ItemTags.SWORDS)) {
-                // Get the registry entry for the enchantment from the world's registry manager
-                var registryOptional = world.getRegistryManager().getOptional(RegistryKeys.ENCHANTMENT);
-                
-                if (registryOptional.isPresent()) {
-                    var registry = registryOptional.get();
-                    var enchantmentEntry = registry.getEntry(WITHER_IMPACT.getValue());
-
-                    if (enchantmentEntry.isPresent()) {
-                        int level = EnchantmentHelper.getLevel(enchantmentEntry.get(), stack);
-                        if (level > 0) {
-                            WitherImpactLogic.activate(player, world, level);
-                            return ActionResult.SUCCESS;
-                        }
-                    }
-                }
-            }
-            return ActionResult.PASS;
-        });
-
-        // Register Event Listener for Giant enchantment activation
-        UseItemCallback.EVENT.register((player, world, hand) -> {
-            ItemStack stack = player.getStackInHand(hand);
-            if (!stack.isEmpty() && stack.isIn(ItemTags.SWORDS)) {
-                // Get the registry entry for the Giant enchantment from the world's registry manager
-                var registryOptional = world.getRegistryManager().getOptional(RegistryKeys.ENCHANTMENT);
-                
-                if (registryOptional.isPresent()) {
-                    var registry = registryOptional.get();
-                    var giantEntry = registry.getEntry(GIANT.getValue());
-
-                    if (giantEntry.isPresent()) {
-                        int level = EnchantmentHelper.getLevel(giantEntry.get(), stack);
-                        if (level > 0) {
-                            // Check if player is sneaking to activate Giant (to differentiate from Wither Impact)
-                            if (player.isSneaking()) {
-                                boolean success = GiantSwordLogic.activate(player, world, level);
-                                if (success) {
-                                    return ActionResult.SUCCESS;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-            return ActionResult.PASS;
         });
+        
+        // Restore inventories of players whose mirror world collapsed while they were offline
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) ->
+            MirrorWorldHandler.onPlayerJoin(handler.getPlayer()));
 
-        // Register Event Listener for Shadow Assassin chestplate activation
-        UseItemCallback.EVENT.register(ShadowAssassinHandler::tryActivate);
+        // Single right-click dispatcher for Obsidian Lore, Wither Impact, Giant and Shadow Assassin
+        ItemUseDispatcher.register();
     }
 }
@@ -12,9 +12,12 @@ import com.leo.enchants.client.ShadowCloneRenderer;
 import com.leo.enchants.client.SpaceTravelPortalRenderer;
 import com.leo.enchants.entity.ModEntities;
 import com.leo.enchants.logic.DoubleJumpHandler;
+import com.leo.enchants.logic.PullPrediction;
 import com.leo.enchants.logic.StrafeHandler;
+import com.leo.enchants.network.ModNetworking;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.EntityRendererRegistry;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 
@@ -38,11 +41,19 @@ public class LeoEnchantsModClient implements ClientModInitializer {
         // Register HUD overlays
         HudRenderCallback.EVENT.register(new HerobrineGlitchOverlay());
         
+        // Register client packet handlers (predicted Grab / Hookshot pulls)
+        ModNetworking.registerClientReceivers();
+        
         // Register client tick events for enchantment handling
         ClientTickEvents.END_CLIENT_TICK.register(client -> {
             DoubleJumpHandler.tick(client);
             StrafeHandler.tick(client);
+            PullPrediction.tick(client);
         });
+        
+        // A pull in progress doesn't carry over to another server or a relog
+        ClientPlayConnectionEvents.JOIN.register((handler, sender, client) -> PullPrediction.reset());
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> PullPrediction.reset());
     }
 }
 
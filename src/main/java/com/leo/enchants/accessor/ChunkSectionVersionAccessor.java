@@ -0,0 +1,15 @@
+package com.leo.enchants.accessor;
+
+/**
+ * Accessor interface for the chunk section change counter.
+ * Implemented by ChunkSectionMixin, bumped by WorldChunkMixin and by code writing straight into sections.
+ */
+public interface ChunkSectionVersionAccessor {
+    
+    /**
+     * Bumped on every block write to the section of a loaded server chunk.
+     */
+    int leo_enchants$getVersion();
+    
+    void leo_enchants$bumpVersion();
+}
@@ -1,13 +1,23 @@
 package com.leo.enchants.accessor;
 
 /**
- * Interface to track missile mode on creepers for rendering.
+ * Interface to track missile state on creepers.
+ * The state and pitch are synced through the DataTracker; the client builds
+ * the charge and flight effects from them.
  */
 public interface MissileCreeperAccessor {
     
-    void leo_enchants$setMissileMode(boolean active);
+    byte STATE_IDLE = 0;
+    byte STATE_CHARGING = 1;
+    byte STATE_FLYING = 2;
     
-    boolean leo_enchants$isMissileMode();
+    void leo_enchants$setMissileState(byte state);
+    
+    byte leo_enchants$getMissileState();
+    
+    default boolean leo_enchants$isMissileMode() {
+        return leo_enchants$getMissileState() != STATE_IDLE;
+    }
     
     void leo_enchants$setMissilePitch(float pitch);
     
@@ -1,7 +0,0 @@
-package com.leo.enchants.accessor;
-
-public interface PlayerHitboxAccessor {
-    void leo_enchants$setHitboxScale(float scale);
-    float leo_enchants$getHitboxScale();
-}
-
@@ -0,0 +1,163 @@
+package com.leo.enchants.attachment;
+
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Time-sliced decay for one kind of {@link ChunkBlockLedger} attachment.
+ *
+ * Loaded chunks that hold a ledger are visited round-robin, per world. Only a few
+ * chunks and a few dozen blocks are reverted per tick, so large expiries are spread
+ * over several ticks. Ledgers are saved with their chunk, so pending blocks survive
+ * restarts and resume decaying when the chunk loads again.
+ */
+public final class BlockLedgerDecay {
+
+    // Decay work per world per tick
+    private static final int CHUNKS_PER_TICK = 4;
+    private static final int BLOCKS_PER_TICK = 32;
+
+    private final AttachmentType<ChunkBlockLedger> type;
+
+    // World -> loaded chunks that have a ledger, visited round-robin
+    private final Map<ServerWorld, ChunkQueue> queues = new WeakHashMap<>();
+
+    public BlockLedgerDecay(AttachmentType<ChunkBlockLedger> type) {
+        this.type = type;
+    }
+
+    private static final class ChunkQueue {
+        private final LongArrayFIFOQueue order = new LongArrayFIFOQueue();
+        private final LongOpenHashSet queued = new LongOpenHashSet();
+
+        private void add(long chunkPos) {
+            if (queued.add(chunkPos)) {
+                order.enqueue(chunkPos);
+            }
+        }
+    }
+
+    /**
+     * Hook chunk loading and world ticks.
+     */
+    public void register() {
+        // Chunks saved with pending blocks resume decaying when they load again
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) -> {
+            if (chunk.hasAttached(type)) {
+                enqueue(world, chunk.getPos().toLong());
+            }
+        });
+
+        ServerTickEvents.END_WORLD_TICK.register(this::tickDecay);
+    }
+
+    public ChunkBlockLedger getOrCreate(WorldChunk chunk) {
+        return chunk.getAttachedOrCreate(type);
+    }
+
+    /**
+     * The chunk's ledger, or null if it has none.
+     */
+    public ChunkBlockLedger getIfPresent(WorldChunk chunk) {
+        return chunk.getAttached(type);
+    }
+
+    /**
+     * The entry for a position, or null if it isn't a tracked block.
+     */
+    public ChunkBlockLedger.Entry get(ServerWorld world, BlockPos pos) {
+        ChunkBlockLedger ledger = world.getWorldChunk(pos).getAttached(type);
+        return ledger == null ? null : ledger.get(pos.asLong());
+    }
+
+    /**
+     * Record a block placed at {@code pos}. The block itself must already be placed.
+     */
+    public void record(ServerWorld world, WorldChunk chunk, ChunkBlockLedger ledger, BlockPos pos,
+                       BlockState prior, BlockState placed, long expiresAt) {
+        ledger.add(new ChunkBlockLedger.Entry(pos.asLong(), expiresAt, placed, prior));
+        commit(world, chunk, ledger);
+    }
+
+    /**
+     * Save a ledger after entries were added to it directly, and queue its chunk for decay.
+     */
+    public void commit(ServerWorld world, WorldChunk chunk, ChunkBlockLedger ledger) {
+        save(chunk, ledger);
+        enqueue(world, chunk.getPos().toLong());
+    }
+
+    /**
+     * Put back what was there before, unless something else replaced the block since.
+     */
+    public void revert(ServerWorld world, ChunkBlockLedger ledger, ChunkBlockLedger.Entry entry) {
+        ledger.remove(entry.pos());
+        BlockPos pos = BlockPos.fromLong(entry.pos());
+        if (world.getBlockState(pos) == entry.placed()) {
+            world.setBlockState(pos, entry.prior());
+        }
+    }
+
+    /**
+     * Revert expired blocks in a few chunks, within the per-tick block budget.
+     */
+    private void tickDecay(ServerWorld world) {
+        ChunkQueue queue = queues.get(world);
+        if (queue == null || queue.order.isEmpty()) {
+            return;
+        }
+
+        long time = world.getTime();
+        int blockBudget = BLOCKS_PER_TICK;
+
+        for (int i = 0; i < CHUNKS_PER_TICK && blockBudget > 0 && !queue.order.isEmpty(); i++) {
+            long chunkPos = queue.order.dequeueLong();
+            WorldChunk chunk = world.getChunkManager().getWorldChunk(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos));
+            ChunkBlockLedger ledger = chunk == null ? null : chunk.getAttached(type);
+            if (ledger == null) {
+                // Unloaded (re-queued on load) or nothing left to track
+                queue.queued.remove(chunkPos);
+                continue;
+            }
+
+            boolean changed = false;
+            for (ChunkBlockLedger.Entry entry : ledger.expired(time, blockBudget)) {
+                revert(world, ledger, entry);
+                blockBudget--;
+                changed = true;
+            }
+
+            if (ledger.isEmpty()) {
+                chunk.removeAttached(type);
+                queue.queued.remove(chunkPos);
+            } else {
+                if (changed) {
+                    save(chunk, ledger);
+                }
+                queue.order.enqueue(chunkPos);
+            }
+        }
+    }
+
+    /**
+     * Re-attach the ledger so the chunk is marked for saving.
+     */
+    public void save(WorldChunk chunk, ChunkBlockLedger ledger) {
+        chunk.setAttached(type, ledger);
+    }
+
+    private void enqueue(ServerWorld world, long chunkPos) {
+        queues.computeIfAbsent(world, w -> new ChunkQueue()).add(chunkPos);
+    }
+}
@@ -0,0 +1,112 @@
+package com.leo.enchants.attachment;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Temporary blocks in one chunk (placed by mobs or abilities), held in a Fabric chunk attachment.
+ *
+ * Entries are keyed by packed block position and kept in placement order,
+ * so the oldest entry is always first. Each entry remembers the block that
+ * was placed and the block it replaced, so it can be reverted later.
+ */
+public class ChunkBlockLedger {
+
+    /**
+     * One temporary block. {@code prior} is what was there before (usually air).
+     */
+    public record Entry(long pos, long expiresAt, BlockState placed, BlockState prior) {
+
+        public static final Codec<Entry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.LONG.fieldOf("pos").forGetter(Entry::pos),
+            Codec.LONG.fieldOf("expires_at").forGetter(Entry::expiresAt),
+            BlockState.CODEC.fieldOf("placed").forGetter(Entry::placed),
+            BlockState.CODEC.optionalFieldOf("prior", Blocks.AIR.getDefaultState()).forGetter(Entry::prior)
+        ).apply(instance, Entry::new));
+    }
+
+    public static final Codec<ChunkBlockLedger> CODEC = Entry.CODEC.listOf().xmap(
+        ChunkBlockLedger::fromList,
+        ChunkBlockLedger::toList
+    );
+
+    // Packed BlockPos -> entry, oldest first
+    private final Long2ObjectLinkedOpenHashMap<Entry> entries = new Long2ObjectLinkedOpenHashMap<>();
+
+    public ChunkBlockLedger() {
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public boolean contains(long pos) {
+        return entries.containsKey(pos);
+    }
+
+    public Entry get(long pos) {
+        return entries.get(pos);
+    }
+
+    /**
+     * Record a placement. Placing over an existing entry keeps its original prior state
+     * and the later of the two expiry times, so overlapping placements last until the last one ends.
+     */
+    public void add(Entry entry) {
+        Entry existing = entries.remove(entry.pos());
+        if (existing != null) {
+            entry = new Entry(entry.pos(), Math.max(entry.expiresAt(), existing.expiresAt()), entry.placed(), existing.prior());
+        }
+        entries.putAndMoveToLast(entry.pos(), entry);
+    }
+
+    /**
+     * The oldest entry, or null if the ledger is empty.
+     */
+    public Entry oldest() {
+        return entries.isEmpty() ? null : entries.get(entries.firstLongKey());
+    }
+
+    public Entry remove(long pos) {
+        return entries.remove(pos);
+    }
+
+    /**
+     * Up to {@code limit} entries that have expired by {@code time}, oldest first.
+     * Entries can have different lifetimes, so this checks the whole ledger.
+     */
+    public List<Entry> expired(long time, int limit) {
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (entry.expiresAt() <= time) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private List<Entry> toList() {
+        return new ArrayList<>(entries.values());
+    }
+
+    private static ChunkBlockLedger fromList(List<Entry> list) {
+        ChunkBlockLedger ledger = new ChunkBlockLedger();
+        for (Entry entry : list) {
+            ledger.add(entry);
+        }
+        return ledger;
+    }
+}
@@ -0,0 +1,72 @@
+package com.leo.enchants.attachment;
+
+import com.leo.enchants.LeoEnchantsMod;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.Identifier;
+
+/**
+ * Registers the mod's Fabric data attachments.
+ * All per-player ability state lives in a single PlayerAbilityState attached to the player,
+ * so it is freed together with the player entity and the relevant parts are saved with player data.
+ * Mob-placed blocks and temporary ability blocks are tracked per chunk in ChunkBlockLedgers saved with the chunk.
+ */
+public class ModAttachments {
+    
+    public static final AttachmentType<PlayerAbilityState> PLAYER_ABILITIES = AttachmentRegistry.create(
+        Identifier.of(LeoEnchantsMod.MOD_ID, "player_abilities"),
+        builder -> builder
+            .initializer(PlayerAbilityState::new)
+            .persistent(PlayerAbilityState.CODEC)
+            .copyOnDeath()
+    );
+    
+    public static final AttachmentType<ChunkBlockLedger> MOB_BLOCK_LEDGER = AttachmentRegistry.create(
+        Identifier.of(LeoEnchantsMod.MOD_ID, "mob_block_ledger"),
+        builder -> builder
+            .initializer(ChunkBlockLedger::new)
+            .persistent(ChunkBlockLedger.CODEC)
+    );
+    
+    public static final AttachmentType<ChunkBlockLedger> TEMPORARY_BLOCK_LEDGER = AttachmentRegistry.create(
+        Identifier.of(LeoEnchantsMod.MOD_ID, "temporary_block_ledger"),
+        builder -> builder
+            .initializer(ChunkBlockLedger::new)
+            .persistent(ChunkBlockLedger.CODEC)
+    );
+    
+    /**
+     * Get (or lazily create) the ability state for a player.
+     */
+    public static PlayerAbilityState get(PlayerEntity player) {
+        return player.getAttachedOrCreate(PLAYER_ABILITIES);
+    }
+    
+    /**
+     * Get the ability state for a player without creating it.
+     * Returns null if the player has never used an ability.
+     */
+    public static PlayerAbilityState getIfPresent(PlayerEntity player) {
+        return player.getAttached(PLAYER_ABILITIES);
+    }
+    
+    public static void register() {
+        LeoEnchantsMod.LOGGER.info("Registering Player Ability and Block Ledger Attachments for " + LeoEnchantsMod.MOD_ID);
+        
+        // Ability state follows the player through death (the mirror inventory snapshot must),
+        // but whatever was tied to the old body's movement ends with it
+        ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> {
+            PlayerAbilityState state = getIfPresent(newPlayer);
+            if (alive || state == null) {
+                return;
+            }
+            state.fallImmunityEndTime = -1;
+            state.hookshotHold = null;
+            state.doubleJumpAvailable = false;
+            state.strafeInput = 0;
+            state.pendingDoubleJump = false;
+        });
+    }
+}
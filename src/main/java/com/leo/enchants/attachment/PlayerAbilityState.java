@@ -0,0 +1,76 @@
+package com.leo.enchants.attachment;
+
+import com.leo.enchants.entity.ShadowCloneEntity;
+import com.leo.enchants.entity.SpaceTravelPortalEntity;
+import com.leo.enchants.logic.HookshotHandler;
+import com.leo.enchants.logic.MirrorWorldHandler;
+import com.leo.enchants.logic.ShadowAssassinHandler;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * All ability state for a single player, held in one Fabric data attachment.
+ * 
+ * Cooldowns and entity references are transient (they are meaningless after a restart),
+ * while the hookshot hold, shadow clone refund, mirror inventory snapshot and
+ * Space Travel target are persisted with the player's data.
+ */
+public class PlayerAbilityState {
+    
+    public static final Codec<PlayerAbilityState> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+        HookshotHandler.HookshotHoldData.CODEC.optionalFieldOf("hookshot_hold").forGetter(state -> Optional.ofNullable(state.hookshotHold)),
+        ShadowAssassinHandler.PendingRestore.CODEC.optionalFieldOf("shadow_refund").forGetter(state -> Optional.ofNullable(state.pendingRestore)),
+        MirrorWorldHandler.InventorySnapshot.CODEC.optionalFieldOf("mirror_inventory").forGetter(state -> Optional.ofNullable(state.mirrorSnapshot)),
+        Codec.STRING.optionalFieldOf("space_travel_target").forGetter(state -> Optional.ofNullable(state.selectedDimension))
+    ).apply(instance, PlayerAbilityState::new));
+    
+    // Fall damage immunity (Wither Impact, Double Jump, Grab, Hookshot) - game time it expires, -1 if none
+    public long fallImmunityEndTime = -1;
+    
+    // Double Jump / Strafe input from the client (see MovementAbilities)
+    public boolean doubleJumpAvailable = false;
+    public long lastDoubleJumpTime = Long.MIN_VALUE;
+    public byte strafeInput = 0;
+    public long movementInputTime = Long.MIN_VALUE;
+    public int movementInputsThisTick = 0;
+    public boolean pendingDoubleJump = false;
+    
+    // Quantum Tunnelling cooldown end (game time)
+    public long quantumCooldownEndTime = 0;
+    
+    // Shadow Assassin
+    public boolean shadowAssassinEquipped = false;
+    public long shadowCooldownEndTime = 0;
+    public ShadowAssassinHandler.PendingRestore pendingRestore;
+    public final List<ShadowCloneEntity> activeClones = new ArrayList<>();
+    
+    // De-Enchant last use (game time), Long.MIN_VALUE if never used
+    public long deEnchantLastUseTime = Long.MIN_VALUE;
+    
+    // Hookshot hold
+    public HookshotHandler.HookshotHoldData hookshotHold;
+    
+    // Space Travel
+    public String selectedDimension;
+    public SpaceTravelPortalEntity activePortal;
+    
+    // Mirror World inventory snapshot (non-null while the player is inside a mirror world)
+    public MirrorWorldHandler.InventorySnapshot mirrorSnapshot;
+    
+    public PlayerAbilityState() {
+    }
+    
+    private PlayerAbilityState(Optional<HookshotHandler.HookshotHoldData> hookshotHold,
+                               Optional<ShadowAssassinHandler.PendingRestore> pendingRestore,
+                               Optional<MirrorWorldHandler.InventorySnapshot> mirrorSnapshot,
+                               Optional<String> selectedDimension) {
+        this.hookshotHold = hookshotHold.orElse(null);
+        this.pendingRestore = pendingRestore.orElse(null);
+        this.mirrorSnapshot = mirrorSnapshot.orElse(null);
+        this.selectedDimension = selectedDimension.orElse(null);
+    }
+}
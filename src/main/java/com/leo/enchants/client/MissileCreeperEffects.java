@@ -0,0 +1,73 @@
+package com.leo.enchants.client;
+
+import com.leo.enchants.monster.CreeperMissileGoal;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.entity.mob.CreeperEntity;
+import net.minecraft.particle.ParticleEffect;
+import net.minecraft.particle.ParticleTypes;
+import net.minecraft.sound.SoundCategory;
+import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.math.random.Random;
+
+/**
+ * Client-side charge and flight effects for missile creepers.
+ * Driven by the synced missile state, so the server sends no particle packets.
+ */
+public class MissileCreeperEffects {
+    
+    /**
+     * Charging: flames that get more intense, smoke, soul fire near the end and a ticking sound.
+     */
+    public static void tickCharging(CreeperEntity creeper, int chargeTicks) {
+        int particleCount = 3 + (chargeTicks / 10);
+        spawn(creeper, ParticleTypes.FLAME, 0.8, particleCount, 0.3, 0.4, 0.3, 0.02);
+        
+        // Smoke particles
+        spawn(creeper, ParticleTypes.SMOKE, 1.2, 2, 0.2, 0.3, 0.2, 0.01);
+        
+        // Soul fire particles near the end of charge
+        if (chargeTicks > CreeperMissileGoal.CHARGE_TIME - 10) {
+            spawn(creeper, ParticleTypes.SOUL_FIRE_FLAME, 0.5, 3, 0.2, 0.2, 0.2, 0.05);
+        }
+        
+        // Play tick sound periodically (only heard by this client)
+        if (chargeTicks % 10 == 0) {
+            MinecraftClient client = MinecraftClient.getInstance();
+            creeper.getWorld().playSound(client.player, creeper.getX(), creeper.getY(), creeper.getZ(),
+                SoundEvents.BLOCK_NOTE_BLOCK_HAT.value(), SoundCategory.HOSTILE, 0.5F,
+                1.0F + (chargeTicks / (float) CreeperMissileGoal.CHARGE_TIME));
+        }
+    }
+    
+    /**
+     * Flying: fire and smoke trail.
+     */
+    public static void tickFlying(CreeperEntity creeper) {
+        // Fire trail
+        spawn(creeper, ParticleTypes.FLAME, 0.5, 10, 0.2, 0.3, 0.2, 0.08);
+        
+        // Smoke trail
+        spawn(creeper, ParticleTypes.LARGE_SMOKE, 0.0, 5, 0.3, 0.3, 0.3, 0.02);
+    }
+    
+    /**
+     * Spawn a particle burst around the creeper, spread like ServerWorld.spawnParticles.
+     */
+    private static void spawn(CreeperEntity creeper, ParticleEffect particle, double yOffset, int count,
+                              double spreadX, double spreadY, double spreadZ, double speed) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        Random random = creeper.getRandom();
+        
+        for (int i = 0; i < count; i++) {
+            client.particleManager.addParticle(
+                particle,
+                creeper.getX() + random.nextGaussian() * spreadX,
+                creeper.getY() + yOffset + random.nextGaussian() * spreadY,
+                creeper.getZ() + random.nextGaussian() * spreadZ,
+                random.nextGaussian() * speed,
+                random.nextGaussian() * speed,
+                random.nextGaussian() * speed
+            );
+        }
+    }
+}
@@ -49,9 +49,10 @@ public class ShadowCloneRenderer extends EntityRenderer<ShadowCloneEntity, Shado
     @Override
     public void updateRenderState(ShadowCloneEntity entity, ShadowCloneRenderState state, float tickDelta) {
         super.updateRenderState(entity, state, tickDelta);
-        state.bodyYaw = entity.getSyncedBodyYaw();
-        state.headYaw = entity.getSyncedHeadYaw();
-        state.limbSwing = entity.getLimbSwing();
+        // The clone's yaw is computed client-side from its flight path
+        float yaw = entity.getYaw(tickDelta);
+        state.bodyYaw = yaw;
+        state.headYaw = yaw;
         state.limbSwingAmount = 1.0f;
         state.weaponStack = entity.getWeaponStack();
         state.ageTicks = entity.getAgeTicks();
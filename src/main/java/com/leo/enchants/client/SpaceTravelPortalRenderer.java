@@ -8,6 +8,7 @@ import net.minecraft.client.render.entity.EntityRenderer;
 import net.minecraft.client.render.entity.EntityRendererFactory;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.Identifier;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RotationAxis;
 import org.joml.Matrix4f;
 
@@ -27,6 +28,68 @@ public class SpaceTravelPortalRenderer extends EntityRenderer<SpaceTravelPortalE
     private static final float CURVE_DEPTH = SpaceTravelPortalEntity.PORTAL_CURVE_DEPTH;
     private static final int CURVE_SEGMENTS = 24; // Higher for smoother curve
     private static final int PORTAL_LAYERS = 16; // Number of overlapping effect layers
+    private static final float GLOW_SIZE = 0.2f;
+    
+    // Beyond these distances (squared) the rift draws half / a quarter of its layers
+    private static final double LOD_NEAR_DISTANCE_SQ = 32 * 32;
+    private static final double LOD_FAR_DISTANCE_SQ = 64 * 64;
+    
+    // Dimension colors (shared, never modified)
+    private static final float[] NETHER_BASE_COLOR = {0.6f, 0.15f, 0.05f};  // Deep red/orange
+    private static final float[] END_BASE_COLOR = {0.1f, 0.05f, 0.2f};      // Deep purple/black
+    private static final float[] OVERWORLD_BASE_COLOR = {0.1f, 0.3f, 0.5f}; // Deep blue/sky
+    private static final float[] NETHER_ACCENT_COLOR = {1.0f, 0.5f, 0.2f};    // Bright orange/fire
+    private static final float[] END_ACCENT_COLOR = {0.8f, 0.4f, 1.0f};       // Bright purple/pink
+    private static final float[] OVERWORLD_ACCENT_COLOR = {0.5f, 0.9f, 1.0f}; // Bright cyan/sky blue
+    
+    // Every portal has the same shape, so its geometry is built once
+    private static final CurveMesh MESH = new CurveMesh();
+    
+    // Per-frame values for one layer, one per point along the curve (render thread only)
+    private final float[] scratchZ = new float[CURVE_SEGMENTS + 1];
+    private final float[] scratchU = new float[CURVE_SEGMENTS + 1];
+    private final int[] scratchColor = new int[CURVE_SEGMENTS + 1];
+    
+    /**
+     * The static part of the portal geometry: the points where the curve segments meet,
+     * for every layer and the edge glow. Only animation and color are left for each frame.
+     */
+    private static final class CurveMesh {
+        final float[] u = new float[CURVE_SEGMENTS + 1];           // Position along the curve, 0..1
+        final float[] x = new float[CURVE_SEGMENTS + 1];           // Surface, shared by all layers
+        final float[] z = new float[CURVE_SEGMENTS + 1];
+        final float[][] layerZ = new float[PORTAL_LAYERS][CURVE_SEGMENTS + 1];
+        final float[] brightness = new float[CURVE_SEGMENTS + 1];
+        final float[] waveSin = new float[CURVE_SEGMENTS + 1];     // sin / cos of 3 * angle
+        final float[] waveCos = new float[CURVE_SEGMENTS + 1];
+        final float[] glowX = new float[CURVE_SEGMENTS + 1];       // Outer edge of the glow
+        final float[] glowZ = new float[CURVE_SEGMENTS + 1];
+        
+        CurveMesh() {
+            float halfWidth = WIDTH / 2;
+            for (int i = 0; i <= CURVE_SEGMENTS; i++) {
+                u[i] = (float) i / CURVE_SEGMENTS;
+                
+                // Map u to angle for curved surface
+                float angle = (u[i] - 0.5f) * (float) Math.PI;
+                float sin = (float) Math.sin(angle);
+                float cos = (float) Math.cos(angle);
+                
+                x[i] = sin * halfWidth;
+                z[i] = cos * CURVE_DEPTH;
+                for (int layer = 0; layer < PORTAL_LAYERS; layer++) {
+                    // Layers recede into portal
+                    float layerOffset = (float) layer / PORTAL_LAYERS * 0.3f;
+                    layerZ[layer][i] = cos * (CURVE_DEPTH - layerOffset);
+                }
+                brightness[i] = 0.6f + 0.4f * cos;
+                waveSin[i] = (float) Math.sin(angle * 3);
+                waveCos[i] = (float) Math.cos(angle * 3);
+                glowX[i] = sin * (halfWidth + GLOW_SIZE);
+                glowZ[i] = cos * (CURVE_DEPTH + GLOW_SIZE);
+            }
+        }
+    }
     
     public SpaceTravelPortalRenderer(EntityRendererFactory.Context context) {
         super(context);
@@ -77,35 +140,50 @@ public class SpaceTravelPortalRenderer extends EntityRenderer<SpaceTravelPortalE
         float[] baseColor = getDimensionBaseColor(state.targetDimension);
         float[] accentColor = getDimensionAccentColor(state.targetDimension);
         
+        // All parts share one buffer and matrix
+        VertexConsumer consumer = vertexConsumers.getBuffer(RenderLayer.getTranslucentMovingBlock());
+        Matrix4f matrix = matrices.peek().getPositionMatrix();
+        
+        // Distant portals draw every 2nd / 4th layer
+        int layerStep = 1;
+        if (state.squaredDistanceToCamera > LOD_FAR_DISTANCE_SQ) {
+            layerStep = 4;
+        } else if (state.squaredDistanceToCamera > LOD_NEAR_DISTANCE_SQ) {
+            layerStep = 2;
+        }
+        
         // Render the dimensional rift effect (multiple layers like end portal)
-        renderDimensionalRift(matrices, vertexConsumers, baseColor, accentColor, time, state.targetDimension);
+        renderDimensionalRift(consumer, matrix, baseColor, accentColor, time, layerStep);
         
         // Render outer edge glow
-        renderEdgeGlow(matrices, vertexConsumers, accentColor, time);
+        renderEdgeGlow(consumer, matrix, accentColor, time);
         
-        // Render swirling particles on surface
-        renderSurfaceDetails(matrices, vertexConsumers, baseColor, accentColor, time);
+        // Render swirling particles on surface (too small to see from far away)
+        if (layerStep < 4) {
+            renderSurfaceDetails(consumer, matrix, baseColor, accentColor, time);
+        }
         
         matrices.pop();
     }
     
     /**
      * Render the main dimensional rift effect with multiple overlapping layers
+     * @param layerStep Render every n-th layer, each standing in for the skipped ones
      */
-    private void renderDimensionalRift(MatrixStack matrices, VertexConsumerProvider vertexConsumers,
-                                        float[] baseColor, float[] accentColor, float time, String dimension) {
-        
-        float halfWidth = WIDTH / 2;
-        float halfHeight = HEIGHT / 2;
+    private void renderDimensionalRift(VertexConsumer consumer, Matrix4f matrix,
+                                        float[] baseColor, float[] accentColor, float time, int layerStep) {
         
         // Render multiple layers with depth effect (similar to end portal)
-        for (int layer = 0; layer < PORTAL_LAYERS; layer++) {
+        for (int layer = 0; layer < PORTAL_LAYERS; layer += layerStep) {
             float layerDepth = (float) layer / PORTAL_LAYERS;
-            float layerOffset = layerDepth * 0.3f; // Layers recede into portal
             
             // Calculate layer-specific animation
             float layerTime = time * (0.02f + layer * 0.005f);
             float layerAlpha = 0.15f + (1.0f - layerDepth) * 0.4f;
+            if (layerStep > 1) {
+                // Same opacity as the layers it stands in for stacked up
+                layerAlpha = 1.0f - (float) Math.pow(1.0f - layerAlpha, layerStep);
+            }
             
             // Alternate between base and accent colors with depth
             float colorMix = (float) Math.sin(layerTime + layer * 0.5f) * 0.5f + 0.5f;
@@ -119,85 +197,71 @@ public class SpaceTravelPortalRenderer extends EntityRenderer<SpaceTravelPortalE
             g *= shimmer;
             b *= shimmer;
             
-            renderCurvedLayer(matrices, vertexConsumers, halfWidth, halfHeight, 
-                              layerOffset, r, g, b, layerAlpha, layerTime, layer);
+            renderCurvedLayer(consumer, matrix, r, g, b, layerAlpha, layerTime, layer);
         }
     }
     
     /**
      * Render a single curved layer of the portal
      */
-    private void renderCurvedLayer(MatrixStack matrices, VertexConsumerProvider vertexConsumers,
-                                    float halfWidth, float halfHeight, float depthOffset,
+    private void renderCurvedLayer(VertexConsumer consumer, Matrix4f matrix,
                                     float r, float g, float b, float alpha, float time, int layer) {
         
-        VertexConsumer consumer = vertexConsumers.getBuffer(RenderLayer.getTranslucentMovingBlock());
-        Matrix4f matrix = matrices.peek().getPositionMatrix();
+        float halfHeight = HEIGHT / 2;
         
         // UV animation for swirling effect
         float uvOffsetX = (float) Math.sin(time + layer * 0.3f) * 0.1f;
         float uvOffsetY = (float) Math.cos(time * 0.7f + layer * 0.2f) * 0.1f;
         float uvScale = 1.0f + layer * 0.1f;
+        float texV0 = (0.0f + uvOffsetY) % 1.0f;
+        float texV1 = (1.0f + uvOffsetY) % 1.0f;
         
-        for (int i = 0; i < CURVE_SEGMENTS; i++) {
-            float u0 = (float) i / CURVE_SEGMENTS;
-            float u1 = (float) (i + 1) / CURVE_SEGMENTS;
-            
-            // Map u to angle for curved surface
-            float angle0 = (u0 - 0.5f) * (float) Math.PI;
-            float angle1 = (u1 - 0.5f) * (float) Math.PI;
-            
-            // Calculate curve positions with depth offset
-            float effectiveDepth = CURVE_DEPTH - depthOffset;
-            float z0 = (float) Math.cos(angle0) * effectiveDepth;
-            float x0 = (float) Math.sin(angle0) * halfWidth;
-            float z1 = (float) Math.cos(angle1) * effectiveDepth;
-            float x1 = (float) Math.sin(angle1) * halfWidth;
-            
-            // Add subtle wave animation
-            float wave0 = (float) Math.sin(time * 0.08f + angle0 * 3 + layer * 0.2f) * 0.03f;
-            float wave1 = (float) Math.sin(time * 0.08f + angle1 * 3 + layer * 0.2f) * 0.03f;
-            z0 += wave0;
-            z1 += wave1;
-            
-            // Calculate animated UVs for swirl effect
-            float texU0 = (u0 * uvScale + uvOffsetX) % 1.0f;
-            float texU1 = (u1 * uvScale + uvOffsetX) % 1.0f;
-            float texV0 = (0.0f + uvOffsetY) % 1.0f;
-            float texV1 = (1.0f + uvOffsetY) % 1.0f;
+        // Subtle wave animation: sin(phase + 3 * angle), expanded so only the phase is per frame
+        float wavePhase = time * 0.08f + layer * 0.2f;
+        float phaseSin = (float) Math.sin(wavePhase) * 0.03f;
+        float phaseCos = (float) Math.cos(wavePhase) * 0.03f;
+        
+        // Animate each point along the curve once; neighbouring segments share them
+        float[] layerZ = MESH.layerZ[layer];
+        for (int i = 0; i <= CURVE_SEGMENTS; i++) {
+            scratchZ[i] = layerZ[i] + phaseSin * MESH.waveCos[i] + phaseCos * MESH.waveSin[i];
+            scratchU[i] = (MESH.u[i] * uvScale + uvOffsetX) % 1.0f;
             
             // Brightness variation across curve
-            float brightness0 = 0.6f + 0.4f * (float) Math.cos(angle0);
-            float brightness1 = 0.6f + 0.4f * (float) Math.cos(angle1);
-            
-            int color0 = getPackedColor(r * brightness0, g * brightness0, b * brightness0, alpha * brightness0);
-            int color1 = getPackedColor(r * brightness1, g * brightness1, b * brightness1, alpha * brightness1);
+            float brightness = MESH.brightness[i];
+            scratchColor[i] = getPackedColor(r * brightness, g * brightness, b * brightness, alpha * brightness);
+        }
+        
+        for (int i = 0; i < CURVE_SEGMENTS; i++) {
+            float x0 = MESH.x[i];
+            float x1 = MESH.x[i + 1];
+            float z0 = scratchZ[i];
+            float z1 = scratchZ[i + 1];
+            float texU0 = scratchU[i];
+            float texU1 = scratchU[i + 1];
+            int color0 = scratchColor[i];
+            int color1 = scratchColor[i + 1];
             
             // Front face
-            consumer.vertex(matrix, x0, -halfHeight, z0).color(color0).texture(texU0, texV1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, 1);
-            consumer.vertex(matrix, x1, -halfHeight, z1).color(color1).texture(texU1, texV1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, 1);
-            consumer.vertex(matrix, x1, halfHeight, z1).color(color1).texture(texU1, texV0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, 1);
-            consumer.vertex(matrix, x0, halfHeight, z0).color(color0).texture(texU0, texV0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, 1);
+            vertex(consumer, matrix, x0, -halfHeight, z0, color0, texU0, texV1, 0, 0, 1);
+            vertex(consumer, matrix, x1, -halfHeight, z1, color1, texU1, texV1, 0, 0, 1);
+            vertex(consumer, matrix, x1, halfHeight, z1, color1, texU1, texV0, 0, 0, 1);
+            vertex(consumer, matrix, x0, halfHeight, z0, color0, texU0, texV0, 0, 0, 1);
             
             // Back face
-            consumer.vertex(matrix, x0, halfHeight, z0).color(color0).texture(texU0, texV0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, -1);
-            consumer.vertex(matrix, x1, halfHeight, z1).color(color1).texture(texU1, texV0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, -1);
-            consumer.vertex(matrix, x1, -halfHeight, z1).color(color1).texture(texU1, texV1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, -1);
-            consumer.vertex(matrix, x0, -halfHeight, z0).color(color0).texture(texU0, texV1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, -1);
+            vertex(consumer, matrix, x0, halfHeight, z0, color0, texU0, texV0, 0, 0, -1);
+            vertex(consumer, matrix, x1, halfHeight, z1, color1, texU1, texV0, 0, 0, -1);
+            vertex(consumer, matrix, x1, -halfHeight, z1, color1, texU1, texV1, 0, 0, -1);
+            vertex(consumer, matrix, x0, -halfHeight, z0, color0, texU0, texV1, 0, 0, -1);
         }
     }
     
     /**
      * Render glowing edge around the portal
      */
-    private void renderEdgeGlow(MatrixStack matrices, VertexConsumerProvider vertexConsumers,
-                                 float[] color, float time) {
-        VertexConsumer consumer = vertexConsumers.getBuffer(RenderLayer.getTranslucentMovingBlock());
-        Matrix4f matrix = matrices.peek().getPositionMatrix();
-        
-        float halfWidth = WIDTH / 2;
+    private void renderEdgeGlow(VertexConsumer consumer, Matrix4f matrix, float[] color, float time) {
         float halfHeight = HEIGHT / 2;
-        float glowSize = 0.2f;
+        float glowSize = GLOW_SIZE;
         
         // Pulsing glow
         float glowPulse = 0.6f + 0.4f * (float) Math.sin(time * 0.12f);
@@ -206,74 +270,49 @@ public class SpaceTravelPortalRenderer extends EntityRenderer<SpaceTravelPortalE
         int glowColor = getPackedColor(color[0], color[1], color[2], glowAlpha);
         int glowColorFade = getPackedColor(color[0], color[1], color[2], 0);
         
+        float[] x = MESH.x;
+        float[] z = MESH.z;
+        float[] xOuter = MESH.glowX;
+        float[] zOuter = MESH.glowZ;
+        
         // Render glow strips along the curved edge
         for (int i = 0; i < CURVE_SEGMENTS; i++) {
-            float u0 = (float) i / CURVE_SEGMENTS;
-            float u1 = (float) (i + 1) / CURVE_SEGMENTS;
-            
-            float angle0 = (u0 - 0.5f) * (float) Math.PI;
-            float angle1 = (u1 - 0.5f) * (float) Math.PI;
-            
-            float z0 = (float) Math.cos(angle0) * CURVE_DEPTH;
-            float x0 = (float) Math.sin(angle0) * halfWidth;
-            float z1 = (float) Math.cos(angle1) * CURVE_DEPTH;
-            float x1 = (float) Math.sin(angle1) * halfWidth;
-            
-            float zOuter0 = (float) Math.cos(angle0) * (CURVE_DEPTH + glowSize);
-            float xOuter0 = (float) Math.sin(angle0) * (halfWidth + glowSize);
-            float zOuter1 = (float) Math.cos(angle1) * (CURVE_DEPTH + glowSize);
-            float xOuter1 = (float) Math.sin(angle1) * (halfWidth + glowSize);
-            
             // Top edge glow
-            consumer.vertex(matrix, x0, halfHeight, z0).color(glowColor).texture(0, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 1, 0);
-            consumer.vertex(matrix, x1, halfHeight, z1).color(glowColor).texture(1, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 1, 0);
-            consumer.vertex(matrix, xOuter1, halfHeight + glowSize, zOuter1).color(glowColorFade).texture(1, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 1, 0);
-            consumer.vertex(matrix, xOuter0, halfHeight + glowSize, zOuter0).color(glowColorFade).texture(0, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 1, 0);
+            vertex(consumer, matrix, x[i], halfHeight, z[i], glowColor, 0, 0, 0, 1, 0);
+            vertex(consumer, matrix, x[i + 1], halfHeight, z[i + 1], glowColor, 1, 0, 0, 1, 0);
+            vertex(consumer, matrix, xOuter[i + 1], halfHeight + glowSize, zOuter[i + 1], glowColorFade, 1, 1, 0, 1, 0);
+            vertex(consumer, matrix, xOuter[i], halfHeight + glowSize, zOuter[i], glowColorFade, 0, 1, 0, 1, 0);
             
             // Bottom edge glow
-            consumer.vertex(matrix, xOuter0, -halfHeight - glowSize, zOuter0).color(glowColorFade).texture(0, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, -1, 0);
-            consumer.vertex(matrix, xOuter1, -halfHeight - glowSize, zOuter1).color(glowColorFade).texture(1, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, -1, 0);
-            consumer.vertex(matrix, x1, -halfHeight, z1).color(glowColor).texture(1, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, -1, 0);
-            consumer.vertex(matrix, x0, -halfHeight, z0).color(glowColor).texture(0, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, -1, 0);
+            vertex(consumer, matrix, xOuter[i], -halfHeight - glowSize, zOuter[i], glowColorFade, 0, 0, 0, -1, 0);
+            vertex(consumer, matrix, xOuter[i + 1], -halfHeight - glowSize, zOuter[i + 1], glowColorFade, 1, 0, 0, -1, 0);
+            vertex(consumer, matrix, x[i + 1], -halfHeight, z[i + 1], glowColor, 1, 1, 0, -1, 0);
+            vertex(consumer, matrix, x[i], -halfHeight, z[i], glowColor, 0, 1, 0, -1, 0);
         }
         
-        // Side edge glows
-        float leftAngle = -0.5f * (float) Math.PI;
-        float rightAngle = 0.5f * (float) Math.PI;
-        
-        float leftZ = (float) Math.cos(leftAngle) * CURVE_DEPTH;
-        float leftX = (float) Math.sin(leftAngle) * halfWidth;
-        float leftZOuter = (float) Math.cos(leftAngle) * (CURVE_DEPTH + glowSize);
-        float leftXOuter = (float) Math.sin(leftAngle) * (halfWidth + glowSize);
+        // Side edge glows, at the two ends of the curve
+        int left = 0;
+        int right = CURVE_SEGMENTS;
         
         // Left side glow
-        consumer.vertex(matrix, leftX, -halfHeight, leftZ).color(glowColor).texture(0, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(-1, 0, 0);
-        consumer.vertex(matrix, leftX, halfHeight, leftZ).color(glowColor).texture(0, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(-1, 0, 0);
-        consumer.vertex(matrix, leftXOuter, halfHeight + glowSize, leftZOuter).color(glowColorFade).texture(1, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(-1, 0, 0);
-        consumer.vertex(matrix, leftXOuter, -halfHeight - glowSize, leftZOuter).color(glowColorFade).texture(1, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(-1, 0, 0);
-        
-        float rightZ = (float) Math.cos(rightAngle) * CURVE_DEPTH;
-        float rightX = (float) Math.sin(rightAngle) * halfWidth;
-        float rightZOuter = (float) Math.cos(rightAngle) * (CURVE_DEPTH + glowSize);
-        float rightXOuter = (float) Math.sin(rightAngle) * (halfWidth + glowSize);
+        vertex(consumer, matrix, x[left], -halfHeight, z[left], glowColor, 0, 0, -1, 0, 0);
+        vertex(consumer, matrix, x[left], halfHeight, z[left], glowColor, 0, 1, -1, 0, 0);
+        vertex(consumer, matrix, xOuter[left], halfHeight + glowSize, zOuter[left], glowColorFade, 1, 1, -1, 0, 0);
+        vertex(consumer, matrix, xOuter[left], -halfHeight - glowSize, zOuter[left], glowColorFade, 1, 0, -1, 0, 0);
         
         // Right side glow
-        consumer.vertex(matrix, rightXOuter, -halfHeight - glowSize, rightZOuter).color(glowColorFade).texture(0, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(1, 0, 0);
-        consumer.vertex(matrix, rightXOuter, halfHeight + glowSize, rightZOuter).color(glowColorFade).texture(0, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(1, 0, 0);
-        consumer.vertex(matrix, rightX, halfHeight, rightZ).color(glowColor).texture(1, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(1, 0, 0);
-        consumer.vertex(matrix, rightX, -halfHeight, rightZ).color(glowColor).texture(1, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(1, 0, 0);
+        vertex(consumer, matrix, xOuter[right], -halfHeight - glowSize, zOuter[right], glowColorFade, 0, 0, 1, 0, 0);
+        vertex(consumer, matrix, xOuter[right], halfHeight + glowSize, zOuter[right], glowColorFade, 0, 1, 1, 0, 0);
+        vertex(consumer, matrix, x[right], halfHeight, z[right], glowColor, 1, 1, 1, 0, 0);
+        vertex(consumer, matrix, x[right], -halfHeight, z[right], glowColor, 1, 0, 1, 0, 0);
     }
     
     /**
      * Render swirling surface details for added visual depth
      */
-    private void renderSurfaceDetails(MatrixStack matrices, VertexConsumerProvider vertexConsumers,
+    private void renderSurfaceDetails(VertexConsumer consumer, Matrix4f matrix,
                                        float[] baseColor, float[] accentColor, float time) {
-        VertexConsumer consumer = vertexConsumers.getBuffer(RenderLayer.getTranslucentMovingBlock());
-        Matrix4f matrix = matrices.peek().getPositionMatrix();
-        
         float halfWidth = WIDTH / 2;
-        float halfHeight = HEIGHT / 2;
         
         // Render swirling "stars" or energy points on the surface
         int numDetails = 20;
@@ -284,13 +323,14 @@ public class SpaceTravelPortalRenderer extends EntityRenderer<SpaceTravelPortalE
             float u = (float) ((seed + time * 0.02f * (1 + (i % 3) * 0.3f)) % 1.0f);
             float v = (float) ((seed * 2.3f + time * 0.015f * (1 + (i % 2) * 0.2f)) % 1.0f);
             
+            // Lookup-table trig is plenty for points this small
             float angle = (u - 0.5f) * (float) Math.PI;
-            float z = (float) Math.cos(angle) * (CURVE_DEPTH - 0.05f);
-            float x = (float) Math.sin(angle) * halfWidth;
+            float z = MathHelper.cos(angle) * (CURVE_DEPTH - 0.05f);
+            float x = MathHelper.sin(angle) * halfWidth;
             float y = (v - 0.5f) * HEIGHT;
             
             // Pulsing size and alpha
-            float pulse = 0.5f + 0.5f * (float) Math.sin(time * 0.2f + seed * 10);
+            float pulse = 0.5f + 0.5f * MathHelper.sin(time * 0.2f + seed * 10);
             float size = 0.05f + 0.03f * pulse;
             float alpha = 0.3f + 0.4f * pulse;
             
@@ -300,23 +340,29 @@ public class SpaceTravelPortalRenderer extends EntityRenderer<SpaceTravelPortalE
             int fadedColor = getPackedColor(color[0], color[1], color[2], 0);
             
             // Render as small quad
-            consumer.vertex(matrix, x - size, y - size, z).color(fadedColor).texture(0, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, 1);
-            consumer.vertex(matrix, x + size, y - size, z).color(fadedColor).texture(1, 0).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, 1);
-            consumer.vertex(matrix, x + size, y + size, z).color(packedColor).texture(1, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, 1);
-            consumer.vertex(matrix, x - size, y + size, z).color(packedColor).texture(0, 1).overlay(OverlayTexture.DEFAULT_UV).light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(0, 0, 1);
+            vertex(consumer, matrix, x - size, y - size, z, fadedColor, 0, 0, 0, 0, 1);
+            vertex(consumer, matrix, x + size, y - size, z, fadedColor, 1, 0, 0, 0, 1);
+            vertex(consumer, matrix, x + size, y + size, z, packedColor, 1, 1, 0, 0, 1);
+            vertex(consumer, matrix, x - size, y + size, z, packedColor, 0, 1, 0, 0, 1);
         }
     }
     
+    private static void vertex(VertexConsumer consumer, Matrix4f matrix, float x, float y, float z, int color,
+                               float u, float v, float normalX, float normalY, float normalZ) {
+        consumer.vertex(matrix, x, y, z).color(color).texture(u, v).overlay(OverlayTexture.DEFAULT_UV)
+            .light(LightmapTextureManager.MAX_LIGHT_COORDINATE).normal(normalX, normalY, normalZ);
+    }
+    
     /**
      * Get base color for dimension (darker, background color)
      */
     private float[] getDimensionBaseColor(String dimensionId) {
         if (dimensionId.contains("nether")) {
-            return new float[]{0.6f, 0.15f, 0.05f}; // Deep red/orange
+            return NETHER_BASE_COLOR;
         } else if (dimensionId.contains("end")) {
-            return new float[]{0.1f, 0.05f, 0.2f}; // Deep purple/black
+            return END_BASE_COLOR;
         } else {
-            return new float[]{0.1f, 0.3f, 0.5f}; // Deep blue/sky
+            return OVERWORLD_BASE_COLOR;
         }
     }
     
@@ -325,11 +371,11 @@ public class SpaceTravelPortalRenderer extends EntityRenderer<SpaceTravelPortalE
      */
     private float[] getDimensionAccentColor(String dimensionId) {
         if (dimensionId.contains("nether")) {
-            return new float[]{1.0f, 0.5f, 0.2f}; // Bright orange/fire
+            return NETHER_ACCENT_COLOR;
         } else if (dimensionId.contains("end")) {
-            return new float[]{0.8f, 0.4f, 1.0f}; // Bright purple/pink
+            return END_ACCENT_COLOR;
         } else {
-            return new float[]{0.5f, 0.9f, 1.0f}; // Bright cyan/sky blue
+            return OVERWORLD_ACCENT_COLOR;
         }
     }
     
@@ -1,6 +1,8 @@
 package com.leo.enchants.entity;
 
 import com.leo.enchants.LeoEnchantsMod;
+import com.leo.enchants.logic.SectionBlockClearer;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
@@ -20,6 +22,8 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
 
 import java.util.HashSet;
 import java.util.List;
@@ -38,6 +42,10 @@ public class GiantSwordEntity extends Entity {
     // Constants
     private static final int LIFETIME_TICKS = 20 * 20; // 20 seconds
     private static final float FALL_SPEED = 2.0f; // Blocks per tick
+    private static final int CARVE_RADIUS = 3; // Level 3 carves a disc this wide around the blade
+    
+    // Column offsets (dx, dz) inside the carve disc, computed once
+    private static final int[] CARVE_OFFSETS = buildCarveOffsets(CARVE_RADIUS);
     
     // Instance variables
     private UUID ownerUUID;
@@ -46,6 +54,7 @@ public class GiantSwordEntity extends Entity {
     private boolean hasDealtImpactDamage = false;
     private Set<UUID> entitiesHitDuringPhase = new HashSet<>();
     private int phaseDamageCooldown = 0;
+    private int carvedDownToY = Integer.MAX_VALUE; // Rows at or above this are already carved
     
     public GiantSwordEntity(EntityType<?> type, World world) {
         super(type, world);
@@ -292,36 +301,82 @@ public class GiantSwordEntity extends Entity {
         serverWorld.spawnParticles(ParticleTypes.EXPLOSION_EMITTER, getX(), getY(), getZ(), 1, 0, 0, 0, 0);
     }
     
-    private void destroyBlocksInPath(ServerWorld serverWorld, double targetY) {
-        // Destroy blocks in a radius around the sword's path
-        int destroyRadius = 3; // Destroy blocks in a 3 block radius
+    /**
+     * Carve the slab of rows the blade crossed this tick (never rows already carved).
+     * Blocks are cleared section by section with a {@link SectionBlockClearer}: no drops,
+     * and world updates only along the edge of the carved shaft.
+     */
+    private void destroyBlocksInPath(ServerWorld serverWorld, double newY) {
+        int top = Math.min((int) Math.floor(getY()), carvedDownToY - 1);
+        int bottom = Math.max((int) Math.floor(newY), (int) Math.floor(targetY));
+        if (top < bottom) {
+            return;
+        }
+        carvedDownToY = bottom;
+        
         int centerX = (int) Math.floor(getX());
         int centerZ = (int) Math.floor(getZ());
+        SectionBlockClearer clearer = new SectionBlockClearer(serverWorld);
+        
+        for (int chunkX = (centerX - CARVE_RADIUS) >> 4; chunkX <= (centerX + CARVE_RADIUS) >> 4; chunkX++) {
+            for (int chunkZ = (centerZ - CARVE_RADIUS) >> 4; chunkZ <= (centerZ + CARVE_RADIUS) >> 4; chunkZ++) {
+                WorldChunk chunk = serverWorld.getChunk(chunkX, chunkZ);
+                for (int sectionY = bottom >> 4; sectionY <= top >> 4; sectionY++) {
+                    int minY = Math.max(bottom, sectionY << 4);
+                    int maxY = Math.min(top, (sectionY << 4) + 15);
+                    carveSection(clearer, chunk, sectionY, minY, maxY, centerX, centerZ);
+                }
+            }
+        }
+        clearer.finish();
+    }
+    
+    private void carveSection(SectionBlockClearer clearer, WorldChunk chunk, int sectionY, int minY, int maxY, int centerX, int centerZ) {
+        int sectionIndex = chunk.getSectionIndex(minY);
+        if (sectionIndex < 0 || sectionIndex >= chunk.getSectionArray().length) {
+            return;
+        }
+        ChunkSection section = chunk.getSectionArray()[sectionIndex];
+        if (section.isEmpty()) {
+            return;
+        }
         
-        // Destroy from current Y to target Y
-        int startY = (int) Math.floor(targetY);
-        int endY = (int) Math.floor(getY());
+        int chunkMinX = chunk.getPos().getStartX();
+        int chunkMinZ = chunk.getPos().getStartZ();
         
-        for (int y = startY; y <= endY; y++) {
-            for (int x = centerX - destroyRadius; x <= centerX + destroyRadius; x++) {
-                for (int z = centerZ - destroyRadius; z <= centerZ + destroyRadius; z++) {
-                    BlockPos pos = new BlockPos(x, y, z);
-                    BlockState state = serverWorld.getBlockState(pos);
-                    
-                    // Skip bedrock and air
-                    if (state.isOf(Blocks.BEDROCK) || state.isAir()) {
-                        continue;
-                    }
-                    
-                    // Calculate distance from center
-                    double dist = Math.sqrt(Math.pow(x - getX(), 2) + Math.pow(z - getZ(), 2));
-                    if (dist <= destroyRadius) {
-                        // Destroy the block without drops
-                        serverWorld.breakBlock(pos, false);
-                    }
+        for (int i = 0; i < CARVE_OFFSETS.length; i += 2) {
+            int x = centerX + CARVE_OFFSETS[i];
+            int z = centerZ + CARVE_OFFSETS[i + 1];
+            int localX = x - chunkMinX;
+            int localZ = z - chunkMinZ;
+            if (localX < 0 || localX > 15 || localZ < 0 || localZ > 15) {
+                continue; // Column belongs to a neighboring chunk
+            }
+            
+            for (int y = minY; y <= maxY; y++) {
+                int localY = y & 15;
+                BlockState state = section.getBlockState(localX, localY, localZ);
+                if (state.isAir() || state.isOf(Blocks.BEDROCK)) {
+                    continue;
+                }
+                clearer.clear(chunk, section, x, y, z, state);
+            }
+        }
+        
+        clearer.endSection(chunk, section, sectionY);
+    }
+    
+    private static int[] buildCarveOffsets(int radius) {
+        IntArrayList offsets = new IntArrayList();
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (dx * dx + dz * dz <= radius * radius) {
+                    offsets.add(dx);
+                    offsets.add(dz);
                 }
             }
         }
+        return offsets.toIntArray();
     }
     
     @Override
@@ -1,7 +1,6 @@
 package com.leo.enchants.entity;
 
 import com.leo.enchants.LeoEnchantsMod;
-import com.leo.enchants.accessor.PlayerHitboxAccessor;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.*;
@@ -71,6 +70,10 @@ public class HerobrineEntity extends HostileEntity {
     // Gravity modifier identifier
     private static final Identifier HEROBRINE_GRAVITY_ID = Identifier.of(LeoEnchantsMod.MOD_ID, "herobrine_gravity");
     
+    // Scale modifier identifier (5x player size: base 1.0 + 4.0 * base)
+    private static final Identifier HEROBRINE_SCALE_ID = Identifier.of(LeoEnchantsMod.MOD_ID, "herobrine_scale");
+    private static final double HEROBRINE_SCALE_BONUS = 4.0;
+    
     // Attack cooldowns (in ticks)
     private static final int OBSIDIAN_ATTACK_COOLDOWN = 140; // 7 seconds
     private static final int SKY_SWORD_ATTACK_COOLDOWN = 200; // 10 seconds
@@ -1022,20 +1025,23 @@ public class HerobrineEntity extends HostileEntity {
                 continue;
             }
             
-            if (player instanceof PlayerHitboxAccessor accessor) {
-                if (accessor.leo_enchants$getHitboxScale() < 5.0f) {
-                    accessor.leo_enchants$setHitboxScale(5.0f);
-                    player.sendMessage(Text.literal("§c§l⚠ Hitbox magnified!"), true);
-                }
-            }
+            // Vanilla scale attribute resizes hitbox, collision and rendering and syncs to clients
+            EntityAttributeInstance scaleAttr = player.getAttributeInstance(EntityAttributes.SCALE);
+            if (scaleAttr == null || scaleAttr.hasModifier(HEROBRINE_SCALE_ID)) continue;
+            
+            scaleAttr.addTemporaryModifier(new EntityAttributeModifier(
+                HEROBRINE_SCALE_ID,
+                HEROBRINE_SCALE_BONUS,
+                EntityAttributeModifier.Operation.ADD_MULTIPLIED_BASE
+            ));
+            player.sendMessage(Text.literal("§c§l⚠ Hitbox magnified!"), true);
         }
     }
     
     private void resetPlayerScale(ServerPlayerEntity player) {
-        if (player instanceof PlayerHitboxAccessor accessor) {
-            if (accessor.leo_enchants$getHitboxScale() > 1.0f) {
-                accessor.leo_enchants$setHitboxScale(1.0f);
-            }
+        EntityAttributeInstance scaleAttr = player.getAttributeInstance(EntityAttributes.SCALE);
+        if (scaleAttr != null) {
+            scaleAttr.removeModifier(HEROBRINE_SCALE_ID);
         }
     }
     
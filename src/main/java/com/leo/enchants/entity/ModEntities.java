@@ -68,7 +68,8 @@ public class ModEntities {
         EntityType.Builder.<ShadowCloneEntity>create(ShadowCloneEntity::new, SpawnGroup.MISC)
             .dimensions(0.6f, 1.8f)
             .maxTrackingRange(64)
-            .trackingTickInterval(1)
+            // Clients compute the flight path themselves; no periodic position updates needed
+            .trackingTickInterval(100)
             .build(SHADOW_CLONE_KEY)
     );
     
@@ -144,8 +145,6 @@ public class ModEntities {
     
     public static void register() {
         LeoEnchantsMod.LOGGER.info("Registering Giant Sword Entity for " + LeoEnchantsMod.MOD_ID);
-        // Register shadow clone with proper living entity attributes
-        FabricDefaultAttributeRegistry.register(SHADOW_CLONE, ShadowCloneEntity.createShadowCloneAttributes());
         LeoEnchantsMod.LOGGER.info("Registering Shadow Clone Entity for " + LeoEnchantsMod.MOD_ID);
         LeoEnchantsMod.LOGGER.info("Registering Digit Disintegration Entity for " + LeoEnchantsMod.MOD_ID);
         LeoEnchantsMod.LOGGER.info("Registering Obsidian Bridge Entity for " + LeoEnchantsMod.MOD_ID);
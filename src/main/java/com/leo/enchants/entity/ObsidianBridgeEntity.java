@@ -1,7 +1,8 @@
 package com.leo.enchants.entity;
 
 import com.leo.enchants.LeoEnchantsMod;
-import net.minecraft.block.BlockState;
+import com.leo.enchants.logic.TemporaryBlocks;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -15,6 +16,7 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.storage.ReadView;
 import net.minecraft.storage.WriteView;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
@@ -46,7 +48,8 @@ public class ObsidianBridgeEntity extends Entity {
     private Vec3d startPos;
     private Vec3d endPos;
     private List<BlockPos> bridgeBlocks = new ArrayList<>();
-    private List<BlockState> originalStates = new ArrayList<>();
+    private final LongOpenHashSet bridgeBlockSet = new LongOpenHashSet(); // Dedupe for bridgeBlocks
+    private long blocksExpireAt; // World time the placed blocks revert (0 = not started)
     private int currentBuildIndex = 0;
     private int ticksExisted = 0;
     
@@ -80,7 +83,7 @@ public class ObsidianBridgeEntity extends Entity {
         if (startPos == null || endPos == null) return;
         
         bridgeBlocks.clear();
-        originalStates.clear();
+        bridgeBlockSet.clear();
         
         int x1 = (int) Math.floor(startPos.x);
         int y1 = (int) Math.floor(startPos.y);
@@ -161,10 +164,8 @@ public class ObsidianBridgeEntity extends Entity {
     }
     
     private void addBridgeBlock(BlockPos pos) {
-        if (!bridgeBlocks.contains(pos)) {
+        if (bridgeBlockSet.add(pos.asLong())) {
             bridgeBlocks.add(pos);
-            // Store original state for restoration (will be populated when placing)
-            originalStates.add(null);
         }
     }
     
@@ -178,26 +179,25 @@ public class ObsidianBridgeEntity extends Entity {
             
             // Building phase
             if (!getBuildingComplete()) {
-                for (int i = 0; i < BUILD_SPEED && currentBuildIndex < bridgeBlocks.size(); i++) {
-                    BlockPos pos = bridgeBlocks.get(currentBuildIndex);
-                    
-                    // Store original state before placing
-                    BlockState original = serverWorld.getBlockState(pos);
-                    if (currentBuildIndex < originalStates.size()) {
-                        originalStates.set(currentBuildIndex, original);
-                    }
-                    
-                    // Only place if the block is air or replaceable
-                    if (original.isAir() || original.isReplaceable()) {
-                        serverWorld.setBlockState(pos, Blocks.OBSIDIAN.getDefaultState());
-                        
-                        // Spawn particles
-                        serverWorld.spawnParticles(ParticleTypes.PORTAL,
-                            pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
-                            5, 0.3, 0.3, 0.3, 0.02);
-                    }
-                    
-                    currentBuildIndex++;
+                if (blocksExpireAt == 0) {
+                    // Blocks revert when the bridge despawns: after the build plus its lifetime
+                    int buildTicks = (bridgeBlocks.size() + BUILD_SPEED - 1) / BUILD_SPEED;
+                    blocksExpireAt = serverWorld.getTime() + buildTicks + MAX_LIFETIME_TICKS;
+                }
+                
+                // Place this tick's step as one batch (only into air/replaceable blocks, or over a crossing bridge)
+                int batchEnd = Math.min(currentBuildIndex + BUILD_SPEED, bridgeBlocks.size());
+                List<BlockPos> placed = TemporaryBlocks.placeBatch(serverWorld,
+                    bridgeBlocks.subList(currentBuildIndex, batchEnd), Blocks.OBSIDIAN.getDefaultState(), blocksExpireAt);
+                currentBuildIndex = batchEnd;
+                
+                // One particle message for the whole batch
+                if (!placed.isEmpty()) {
+                    Box area = TemporaryBlocks.batchBounds(placed);
+                    Vec3d center = area.getCenter();
+                    serverWorld.spawnParticles(ParticleTypes.PORTAL,
+                        center.x, center.y, center.z,
+                        5 * placed.size(), area.getLengthX() / 2 - 0.2, area.getLengthY() / 2 - 0.2, area.getLengthZ() / 2 - 0.2, 0.02);
                 }
                 
                 // Check if building is complete
@@ -232,24 +232,15 @@ public class ObsidianBridgeEntity extends Entity {
     }
     
     /**
-     * Remove all placed obsidian blocks
+     * Play the disappear effect. The blocks themselves are restored by {@link TemporaryBlocks}
+     * (also after a restart, or if this entity is gone).
      */
     private void removeBridge(ServerWorld serverWorld) {
-        // Remove blocks in reverse order for a cool effect
         for (int i = bridgeBlocks.size() - 1; i >= 0; i--) {
             BlockPos pos = bridgeBlocks.get(i);
-            BlockState currentState = serverWorld.getBlockState(pos);
             
-            // Only remove if it's still obsidian (player might have mined it)
-            if (currentState.isOf(Blocks.OBSIDIAN)) {
-                // Restore original state or set to air
-                BlockState original = (i < originalStates.size()) ? originalStates.get(i) : null;
-                if (original != null && !original.isOf(Blocks.OBSIDIAN)) {
-                    serverWorld.setBlockState(pos, original);
-                } else {
-                    serverWorld.setBlockState(pos, Blocks.AIR.getDefaultState());
-                }
-                
+            // Only where the obsidian is still there (player might have mined it)
+            if (serverWorld.getBlockState(pos).isOf(Blocks.OBSIDIAN)) {
                 // Spawn disappear particles
                 serverWorld.spawnParticles(ParticleTypes.PORTAL,
                     pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
@@ -260,7 +251,7 @@ public class ObsidianBridgeEntity extends Entity {
         serverWorld.playSound(null, getX(), getY(), getZ(),
             SoundEvents.ENTITY_ENDERMAN_TELEPORT, SoundCategory.BLOCKS, 1.0f, 0.5f);
         
-        LeoEnchantsMod.LOGGER.info("Obsidian Bridge: Removed {} blocks", bridgeBlocks.size());
+        LeoEnchantsMod.LOGGER.info("Obsidian Bridge: Despawned, {} blocks reverting", bridgeBlocks.size());
     }
     
     // Getters and Setters
@@ -305,6 +296,7 @@ public class ObsidianBridgeEntity extends Entity {
         setLifetime(readView.getInt("Lifetime", 0));
         setBuildingComplete(readView.getBoolean("BuildingComplete", false));
         currentBuildIndex = readView.getInt("CurrentBuildIndex", 0);
+        blocksExpireAt = readView.getLong("BlocksExpireAt", 0L);
         ticksExisted = readView.getInt("TicksExisted", 0);
         
         String uuidStr = readView.getString("OwnerUUID", "");
@@ -341,6 +333,7 @@ public class ObsidianBridgeEntity extends Entity {
         writeView.putInt("Lifetime", getLifetime());
         writeView.putBoolean("BuildingComplete", getBuildingComplete());
         writeView.putInt("CurrentBuildIndex", currentBuildIndex);
+        writeView.putLong("BlocksExpireAt", blocksExpireAt);
         writeView.putInt("TicksExisted", ticksExisted);
         
         if (ownerUUID != null) {
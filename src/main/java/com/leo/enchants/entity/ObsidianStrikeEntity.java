@@ -1,7 +1,8 @@
 package com.leo.enchants.entity;
 
 import com.leo.enchants.LeoEnchantsMod;
-import net.minecraft.block.BlockState;
+import com.leo.enchants.logic.TemporaryBlocks;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.Blocks;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -53,7 +54,8 @@ public class ObsidianStrikeEntity extends Entity {
     private Vec3d startPos;
     private Vec3d endPos;
     private List<BlockPos> strikeBlocks = new ArrayList<>();
-    private List<BlockState> originalStates = new ArrayList<>();
+    private final LongOpenHashSet strikeBlockSet = new LongOpenHashSet(); // Dedupe for strikeBlocks
+    private long blocksExpireAt; // World time the placed blocks revert (0 = not started)
     private int currentStrikeIndex = 0;
     private int ticksExisted = 0;
     private Set<UUID> damagedEntities = new HashSet<>();
@@ -95,7 +97,7 @@ public class ObsidianStrikeEntity extends Entity {
         if (startPos == null || endPos == null) return;
         
         strikeBlocks.clear();
-        originalStates.clear();
+        strikeBlockSet.clear();
         
         int x1 = (int) Math.floor(startPos.x);
         int y1 = (int) Math.floor(startPos.y);
@@ -176,9 +178,8 @@ public class ObsidianStrikeEntity extends Entity {
     }
     
     private void addStrikeBlock(BlockPos pos) {
-        if (!strikeBlocks.contains(pos)) {
+        if (strikeBlockSet.add(pos.asLong())) {
             strikeBlocks.add(pos);
-            originalStates.add(null);
         }
     }
     
@@ -192,31 +193,30 @@ public class ObsidianStrikeEntity extends Entity {
             
             // Strike animation phase
             if (!getStrikeComplete()) {
-                for (int i = 0; i < STRIKE_SPEED && currentStrikeIndex < strikeBlocks.size(); i++) {
-                    BlockPos pos = strikeBlocks.get(currentStrikeIndex);
-                    
-                    // Store original state
-                    BlockState original = serverWorld.getBlockState(pos);
-                    if (currentStrikeIndex < originalStates.size()) {
-                        originalStates.set(currentStrikeIndex, original);
-                    }
-                    
-                    // Place obsidian if air or replaceable
-                    if (original.isAir() || original.isReplaceable()) {
-                        serverWorld.setBlockState(pos, Blocks.OBSIDIAN.getDefaultState());
-                        
-                        // Spawn strike particles
-                        serverWorld.spawnParticles(ParticleTypes.DRAGON_BREATH,
-                            pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
-                            3, 0.2, 0.2, 0.2, 0.01);
-                    }
-                    
-                    // Check for entities at this position to damage
-                    checkAndDamageEntities(serverWorld, pos);
-                    
-                    currentStrikeIndex++;
+                if (blocksExpireAt == 0) {
+                    // Blocks revert when the strike despawns: after the strike plus its lifetime
+                    int strikeTicks = (strikeBlocks.size() + STRIKE_SPEED - 1) / STRIKE_SPEED;
+                    blocksExpireAt = serverWorld.getTime() + strikeTicks + MAX_LIFETIME_TICKS;
                 }
                 
+                // Place this tick's step as one batch (only into air/replaceable blocks, or over an overlapping stripe)
+                int batchEnd = Math.min(currentStrikeIndex + STRIKE_SPEED, strikeBlocks.size());
+                List<BlockPos> batch = strikeBlocks.subList(currentStrikeIndex, batchEnd);
+                List<BlockPos> placed = TemporaryBlocks.placeBatch(serverWorld, batch, Blocks.OBSIDIAN.getDefaultState(), blocksExpireAt);
+                
+                // One particle message for the whole batch
+                if (!placed.isEmpty()) {
+                    Box area = TemporaryBlocks.batchBounds(placed);
+                    Vec3d center = area.getCenter();
+                    serverWorld.spawnParticles(ParticleTypes.DRAGON_BREATH,
+                        center.x, center.y, center.z,
+                        3 * placed.size(), area.getLengthX() / 2 - 0.3, area.getLengthY() / 2 - 0.3, area.getLengthZ() / 2 - 0.3, 0.01);
+                }
+                
+                // One entity query for every position the strike passed this tick
+                checkAndDamageEntities(serverWorld, batch);
+                currentStrikeIndex = batchEnd;
+                
                 // Play strike sound periodically
                 if (currentStrikeIndex % 10 == 0) {
                     BlockPos currentPos = strikeBlocks.get(Math.min(currentStrikeIndex, strikeBlocks.size() - 1));
@@ -260,15 +260,17 @@ public class ObsidianStrikeEntity extends Entity {
     }
     
     /**
-     * Check for and damage entities at a given position
+     * Check for and damage entities at the given positions, with a single entity query
      */
-    private void checkAndDamageEntities(ServerWorld serverWorld, BlockPos pos) {
-        Box damageBox = new Box(pos).expand(0.5);
-        List<Entity> entities = serverWorld.getOtherEntities(this, damageBox);
+    private void checkAndDamageEntities(ServerWorld serverWorld, List<BlockPos> positions) {
+        if (positions.isEmpty()) return;
+        
+        List<Entity> entities = serverWorld.getOtherEntities(this, TemporaryBlocks.batchBounds(positions).expand(0.5));
         
         for (Entity entity : entities) {
             if (entity.getUuid().equals(ownerUUID)) continue;
             if (damagedEntities.contains(entity.getUuid())) continue;
+            if (!touchesAny(entity.getBoundingBox(), positions)) continue;
             
             if (entity instanceof LivingEntity livingEntity) {
                 float damage = calculateDamage();
@@ -282,6 +284,18 @@ public class ObsidianStrikeEntity extends Entity {
         }
     }
     
+    /**
+     * Check if an entity box is within half a block of any of the positions
+     */
+    private static boolean touchesAny(Box entityBox, List<BlockPos> positions) {
+        for (BlockPos pos : positions) {
+            if (new Box(pos).expand(0.5).intersects(entityBox)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Deal impact damage to the target entity when strike completes
      */
@@ -325,21 +339,13 @@ public class ObsidianStrikeEntity extends Entity {
     }
     
     /**
-     * Remove all placed obsidian blocks
+     * Play the disappear effect. The blocks themselves are restored by {@link TemporaryBlocks}.
      */
     private void removeStrike(ServerWorld serverWorld) {
         for (int i = strikeBlocks.size() - 1; i >= 0; i--) {
             BlockPos pos = strikeBlocks.get(i);
-            BlockState currentState = serverWorld.getBlockState(pos);
             
-            if (currentState.isOf(Blocks.OBSIDIAN)) {
-                BlockState original = (i < originalStates.size()) ? originalStates.get(i) : null;
-                if (original != null && !original.isOf(Blocks.OBSIDIAN)) {
-                    serverWorld.setBlockState(pos, original);
-                } else {
-                    serverWorld.setBlockState(pos, Blocks.AIR.getDefaultState());
-                }
-                
+            if (serverWorld.getBlockState(pos).isOf(Blocks.OBSIDIAN)) {
                 serverWorld.spawnParticles(ParticleTypes.DRAGON_BREATH,
                     pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5,
                     5, 0.3, 0.3, 0.3, 0.02);
@@ -402,6 +408,7 @@ public class ObsidianStrikeEntity extends Entity {
         setStrikeComplete(readView.getBoolean("StrikeComplete", false));
         setTotalDistance(readView.getFloat("TotalDistance", 0.0f));
         currentStrikeIndex = readView.getInt("CurrentStrikeIndex", 0);
+        blocksExpireAt = readView.getLong("BlocksExpireAt", 0L);
         ticksExisted = readView.getInt("TicksExisted", 0);
         
         String uuidStr = readView.getString("OwnerUUID", "");
@@ -437,6 +444,7 @@ public class ObsidianStrikeEntity extends Entity {
         writeView.putBoolean("StrikeComplete", getStrikeComplete());
         writeView.putFloat("TotalDistance", getTotalDistance());
         writeView.putInt("CurrentStrikeIndex", currentStrikeIndex);
+        writeView.putLong("BlocksExpireAt", blocksExpireAt);
         writeView.putInt("TicksExisted", ticksExisted);
         
         if (ownerUUID != null) {
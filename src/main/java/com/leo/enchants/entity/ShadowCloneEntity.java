@@ -3,11 +3,8 @@ package com.leo.enchants.entity;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.EquipmentSlot;
-import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.damage.DamageSource;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.attribute.DefaultAttributeContainer;
-import net.minecraft.entity.attribute.EntityAttributes;
 import net.minecraft.entity.data.DataTracker;
 import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.data.TrackedDataHandlerRegistry;
@@ -15,36 +12,49 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.storage.ReadView;
+import net.minecraft.storage.WriteView;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import org.joml.Vector3f;
 
 import java.util.UUID;
 import java.util.function.Consumer;
 
 /**
  * Shadow clones that fly toward the target and strike.
- * Now uses MobEntity for proper player-like rendering.
+ * A lightweight entity: the flight path (start, curve angle, duration, target) is synced
+ * once at spawn and both sides follow the same Bézier curve, so nothing is synced per tick.
+ * Only a retarget (new target id) and the strike/destruction (entity status) are sent later.
  * Vulnerable to damage - if destroyed, the owner loses part of their health restoration.
  */
-public class ShadowCloneEntity extends MobEntity {
+public class ShadowCloneEntity extends Entity {
 
-    private static final TrackedData<Float> BODY_YAW = DataTracker.registerData(ShadowCloneEntity.class, TrackedDataHandlerRegistry.FLOAT);
-    private static final TrackedData<Float> HEAD_YAW = DataTracker.registerData(ShadowCloneEntity.class, TrackedDataHandlerRegistry.FLOAT);
-    private static final TrackedData<Float> LIMB_SWING = DataTracker.registerData(ShadowCloneEntity.class, TrackedDataHandlerRegistry.FLOAT);
+    // Flight path, sent with the spawn
+    private static final TrackedData<Vector3f> START_POS = DataTracker.registerData(ShadowCloneEntity.class, TrackedDataHandlerRegistry.VECTOR_3F);
+    private static final TrackedData<Float> CURVE_ANGLE = DataTracker.registerData(ShadowCloneEntity.class, TrackedDataHandlerRegistry.FLOAT);
+    private static final TrackedData<Integer> LIFETIME = DataTracker.registerData(ShadowCloneEntity.class, TrackedDataHandlerRegistry.INTEGER);
+    private static final TrackedData<Integer> TARGET_ID = DataTracker.registerData(ShadowCloneEntity.class, TrackedDataHandlerRegistry.INTEGER);
+    private static final TrackedData<ItemStack> WEAPON = DataTracker.registerData(ShadowCloneEntity.class, TrackedDataHandlerRegistry.ITEM_STACK);
+
+    // Entity statuses played on the client before removal
+    private static final byte STATUS_STRIKE = 60;
+    private static final byte STATUS_DESTROYED = 61;
+
+    private static final float MAX_HEALTH = 10.0f;
 
     private Vec3d startPos = Vec3d.ZERO;
     private Vec3d controlA = Vec3d.ZERO;
     private Vec3d controlB = Vec3d.ZERO;
     private Vec3d targetPos = Vec3d.ZERO;
-    private UUID targetEntityUuid = null;
-    private int lifetimeTicks = 20;
     private int ageTicks = 0;
+
+    // Server only
     private float damageAmount = 4.0f;
+    private float health = MAX_HEALTH;
     private UUID ownerUuid;
     private boolean hasAttacked = false;
-    private double curveAngleDegrees = 0.0;
-    private ItemStack weaponStack = ItemStack.EMPTY;
     private Consumer<ShadowCloneEntity> onDestroyedCallback = null;
     private boolean wasDestroyed = false;
 
@@ -54,25 +64,19 @@ public class ShadowCloneEntity extends MobEntity {
         this.setNoGravity(true);
     }
 
-    public static DefaultAttributeContainer.Builder createShadowCloneAttributes() {
-        return MobEntity.createMobAttributes()
-            .add(EntityAttributes.MAX_HEALTH, 10.0)
-            .add(EntityAttributes.MOVEMENT_SPEED, 0.0)
-            .add(EntityAttributes.ATTACK_DAMAGE, 0.0);
-    }
-
     @Override
     protected void initDataTracker(DataTracker.Builder builder) {
-        super.initDataTracker(builder);
-        builder.add(BODY_YAW, 0.0f);
-        builder.add(HEAD_YAW, 0.0f);
-        builder.add(LIMB_SWING, 0.0f);
+        builder.add(START_POS, new Vector3f());
+        builder.add(CURVE_ANGLE, 0.0f);
+        builder.add(LIFETIME, 20);
+        builder.add(TARGET_ID, -1);
+        builder.add(WEAPON, ItemStack.EMPTY);
     }
 
     /**
      * Factory helper that sets up the curve and equipment after constructing the entity.
      */
-    public static ShadowCloneEntity create(ServerWorld world, ServerPlayerEntity owner, LivingEntity target, 
+    public static ShadowCloneEntity create(ServerWorld world, ServerPlayerEntity owner, LivingEntity target,
                                            ItemStack weapon, double angleDegrees, int travelTicks, float damage,
                                            Consumer<ShadowCloneEntity> onDestroyed) {
         ShadowCloneEntity clone = new ShadowCloneEntity(ModEntities.SHADOW_CLONE, world);
@@ -80,39 +84,44 @@ public class ShadowCloneEntity extends MobEntity {
         return clone;
     }
 
-    private void configure(ServerPlayerEntity owner, LivingEntity target, ItemStack weapon, 
-                          double angleDegrees, int travelTicks, float damage, 
+    private void configure(ServerPlayerEntity owner, LivingEntity target, ItemStack weapon,
+                          double angleDegrees, int travelTicks, float damage,
                           Consumer<ShadowCloneEntity> onDestroyed) {
         this.ownerUuid = owner.getUuid();
-        this.targetEntityUuid = target.getUuid();
-        this.lifetimeTicks = Math.max(10, travelTicks);
         this.damageAmount = Math.max(1.0f, damage);
         this.ageTicks = 0;
         this.hasAttacked = false;
-        this.noClip = true;
-        this.setNoGravity(true);
-        this.curveAngleDegrees = angleDegrees;
-        this.weaponStack = weapon.copy();
         this.onDestroyedCallback = onDestroyed;
         this.wasDestroyed = false;
 
         // Start around the player's chest height
         this.startPos = owner.getPos().add(0, owner.getStandingEyeHeight() * 0.5, 0);
-        this.targetPos = target.getPos().add(0, target.getHeight() * 0.5, 0);
+        this.targetPos = getAimPoint(target);
+
+        this.dataTracker.set(START_POS, startPos.toVector3f());
+        this.dataTracker.set(CURVE_ANGLE, (float) angleDegrees);
+        this.dataTracker.set(LIFETIME, Math.max(10, travelTicks));
+        this.dataTracker.set(WEAPON, weapon.copy());
+        setTarget(target);
 
         setupCurve(angleDegrees);
         setPosition(startPos.x, startPos.y, startPos.z);
+        faceTarget(startPos);
+    }
 
-        // Orient toward the target initially
-        Vec3d dir = targetPos.subtract(startPos);
-        float yaw = (float) (MathHelper.atan2(dir.x, dir.z) * (180F / Math.PI));
-        this.setYaw(yaw);
-        this.setBodyYaw(yaw);
-        this.setHeadYaw(yaw);
-        
-        // Sync to data tracker for client rendering
-        this.dataTracker.set(BODY_YAW, yaw);
-        this.dataTracker.set(HEAD_YAW, yaw);
+    /**
+     * Point the clone at a new target. This is the only flight change synced after spawn.
+     */
+    public void setTarget(LivingEntity target) {
+        this.dataTracker.set(TARGET_ID, target.getId());
+    }
+
+    @Override
+    public void onTrackedDataSet(TrackedData<?> data) {
+        super.onTrackedDataSet(data);
+        if (START_POS.equals(data)) {
+            this.startPos = new Vec3d(this.dataTracker.get(START_POS));
+        }
     }
 
     private void setupCurve(double angleDegrees) {
@@ -156,78 +165,81 @@ public class ShadowCloneEntity extends MobEntity {
         super.tick();
         ageTicks++;
 
-        // Update limb swing for animation
-        float swing = (float)(ageTicks * 0.5) % 1.0f;
-        this.dataTracker.set(LIMB_SWING, swing);
-
-        if (!getWorld().isClient) {
-            ServerWorld serverWorld = (ServerWorld) getWorld();
-            
-            LivingEntity trackedTarget = getTrackedTarget();
-            if (trackedTarget == null || !trackedTarget.isAlive()) {
+        // Both sides look up the target and follow the same curve
+        Entity trackedTarget = getWorld().getEntityById(this.dataTracker.get(TARGET_ID));
+        if (!(trackedTarget instanceof LivingEntity livingTarget) || !livingTarget.isAlive()) {
+            if (!getWorld().isClient()) {
                 discard();
-                return;
             }
+            return;
+        }
 
-            // Refresh target point so we home and face correctly
-            this.targetPos = trackedTarget.getPos().add(0, trackedTarget.getHeight() * 0.5, 0);
-            setupCurve(this.curveAngleDegrees);
-
-            double progress = Math.min(1.0, (double) ageTicks / (double) lifetimeTicks);
-            Vec3d currentPos = getBezierPosition(progress);
+        // Refresh target point so we home and face correctly
+        this.targetPos = getAimPoint(livingTarget);
+        setupCurve(this.dataTracker.get(CURVE_ANGLE));
 
-            setPosition(currentPos.x, currentPos.y, currentPos.z);
+        int lifetime = this.dataTracker.get(LIFETIME);
+        double progress = Math.min(1.0, (double) ageTicks / (double) lifetime);
+        Vec3d currentPos = getBezierPosition(progress);
+        setPosition(currentPos.x, currentPos.y, currentPos.z);
+        faceTarget(currentPos);
 
-            // Face the target directly
-            Vec3d lookDir = targetPos.subtract(currentPos);
-            if (lookDir.lengthSquared() > 1.0e-4) {
-                float yaw = (float) (MathHelper.atan2(lookDir.x, lookDir.z) * (180F / Math.PI));
-                this.setYaw(yaw);
-                this.setBodyYaw(yaw);
-                this.setHeadYaw(yaw);
-                this.dataTracker.set(BODY_YAW, yaw);
-                this.dataTracker.set(HEAD_YAW, yaw);
-            }
-            
-            // Spawn trailing smoke particles while moving
-            if (ageTicks % 2 == 0 && !hasAttacked) {
-                spawnTrailParticles(serverWorld);
+        if (getWorld().isClient()) {
+            // Trailing smoke while moving
+            if (ageTicks % 2 == 0 && ageTicks < lifetime) {
+                spawnTrailParticles();
             }
+            return;
+        }
 
-            if (!hasAttacked && ageTicks >= lifetimeTicks) {
-                attackTarget(trackedTarget);
-                hasAttacked = true;
-                // Disappear immediately after attacking
-                discard();
-            }
+        if (!hasAttacked && ageTicks >= lifetime) {
+            attackTarget(livingTarget);
+            hasAttacked = true;
+            // Disappear immediately after attacking
+            discard();
         }
     }
-    
+
+    private static Vec3d getAimPoint(LivingEntity target) {
+        return target.getPos().add(0, target.getHeight() * 0.5, 0);
+    }
+
     /**
-     * Spawns shadow trail particles behind the clone as it moves.
+     * Face the target directly.
      */
-    private void spawnTrailParticles(ServerWorld world) {
+    private void faceTarget(Vec3d from) {
+        Vec3d lookDir = targetPos.subtract(from);
+        if (lookDir.lengthSquared() > 1.0e-4) {
+            this.setYaw((float) (MathHelper.atan2(lookDir.x, lookDir.z) * (180F / Math.PI)));
+        }
+    }
+
+    /**
+     * Spawns shadow trail particles behind the clone as it moves (client only).
+     */
+    private void spawnTrailParticles() {
+        World world = getWorld();
         double x = getX();
         double y = getY() + 0.5;
         double z = getZ();
-        
+
         // Dark smoke trail
-        world.spawnParticles(
+        world.addParticleClient(
             ParticleTypes.SMOKE,
             x + (random.nextDouble() - 0.5) * 0.3,
             y + (random.nextDouble() - 0.5) * 0.8,
             z + (random.nextDouble() - 0.5) * 0.3,
-            1, 0, 0, 0, 0.01
+            0, 0.01, 0
         );
-        
+
         // Occasional soul particle
         if (random.nextFloat() < 0.2f) {
-            world.spawnParticles(
+            world.addParticleClient(
                 ParticleTypes.SOUL_FIRE_FLAME,
                 x + (random.nextDouble() - 0.5) * 0.2,
                 y + random.nextDouble() * 1.0,
                 z + (random.nextDouble() - 0.5) * 0.2,
-                1, 0, 0.02, 0, 0.01
+                0, 0.02, 0
             );
         }
     }
@@ -245,17 +257,6 @@ public class ShadowCloneEntity extends MobEntity {
             .add(targetPos.multiply(ttt));
     }
 
-    private LivingEntity getTrackedTarget() {
-        if (!(getWorld() instanceof ServerWorld serverWorld)) {
-            return null;
-        }
-        Entity targetEntity = this.targetEntityUuid != null ? serverWorld.getEntity(this.targetEntityUuid) : null;
-        if (targetEntity instanceof LivingEntity livingTarget) {
-            return livingTarget;
-        }
-        return null;
-    }
-
     private void attackTarget(LivingEntity livingTarget) {
         if (!(getWorld() instanceof ServerWorld serverWorld)) {
             return;
@@ -268,7 +269,7 @@ public class ShadowCloneEntity extends MobEntity {
                 owner = serverPlayer;
             }
         }
-        
+
         DamageSource source = owner != null
             ? serverWorld.getDamageSources().playerAttack(owner)
             : serverWorld.getDamageSources().magic();
@@ -279,130 +280,125 @@ public class ShadowCloneEntity extends MobEntity {
         // Small knockback toward the strike direction
         Vec3d knockDir = livingTarget.getPos().subtract(this.getPos()).normalize().multiply(0.35);
         livingTarget.addVelocity(knockDir.x, 0.1, knockDir.z);
-        
+
         // Consume durability from owner's weapon if it's a damageable item
         if (owner != null) {
-            consumeWeaponDurability(owner, serverWorld);
+            consumeWeaponDurability(owner);
         }
-        
-        // Spawn attack impact particles
-        spawnAttackParticles(serverWorld, livingTarget);
+
+        // Impact particles are played by the client
+        serverWorld.sendEntityStatus(this, STATUS_STRIKE);
     }
-    
+
     /**
      * Consumes durability from the owner's weapon when the shadow clone attacks.
      * Only affects items with durability (tools, weapons, etc.)
      */
-    private void consumeWeaponDurability(ServerPlayerEntity owner, ServerWorld world) {
+    private void consumeWeaponDurability(ServerPlayerEntity owner) {
         ItemStack ownerWeapon = owner.getMainHandStack();
-        
+
         // Check if the item has durability (is damageable)
         if (!ownerWeapon.isEmpty() && ownerWeapon.isDamageable()) {
             // Damage the weapon by 1 durability per clone attack
             ownerWeapon.damage(1, owner, EquipmentSlot.MAINHAND);
         }
     }
-    
+
+    @Override
+    public void handleStatus(byte status) {
+        if (status == STATUS_STRIKE) {
+            spawnAttackParticles();
+        } else if (status == STATUS_DESTROYED) {
+            spawnDestroyedParticles();
+        } else {
+            super.handleStatus(status);
+        }
+    }
+
     /**
-     * Spawns impact particles when the clone strikes the target.
+     * Spawns impact particles where the clone strikes the target (client only).
      */
-    private void spawnAttackParticles(ServerWorld world, LivingEntity target) {
-        double x = target.getX();
-        double y = target.getY() + target.getHeight() / 2;
-        double z = target.getZ();
-        
+    private void spawnAttackParticles() {
+        World world = getWorld();
+        double x = targetPos.x;
+        double y = targetPos.y;
+        double z = targetPos.z;
+
         // Dark impact burst
         for (int i = 0; i < 15; i++) {
             double offsetX = (random.nextDouble() - 0.5) * 0.5;
             double offsetY = (random.nextDouble() - 0.5) * 0.8;
             double offsetZ = (random.nextDouble() - 0.5) * 0.5;
-            
-            world.spawnParticles(
-                ParticleTypes.SMOKE,
-                x + offsetX, y + offsetY, z + offsetZ,
-                1, 0.1, 0.1, 0.1, 0.05
-            );
+            world.addParticleClient(ParticleTypes.SMOKE, x + offsetX, y + offsetY, z + offsetZ, 0, 0.05, 0);
         }
-        
+
         // Damage spark effect
-        world.spawnParticles(
-            ParticleTypes.CRIT,
-            x, y, z,
-            8, 0.3, 0.3, 0.3, 0.1
-        );
+        for (int i = 0; i < 8; i++) {
+            world.addParticleClient(ParticleTypes.CRIT,
+                x + random.nextGaussian() * 0.3, y + random.nextGaussian() * 0.3, z + random.nextGaussian() * 0.3,
+                random.nextGaussian() * 0.1, random.nextGaussian() * 0.1, random.nextGaussian() * 0.1);
+        }
+    }
+
+    /**
+     * Spawns dark smoke/shadow dissipation particles when the clone is destroyed (client only).
+     */
+    private void spawnDestroyedParticles() {
+        World world = getWorld();
+        double x = getX();
+        double y = getY() + getHeight() / 2;
+        double z = getZ();
+
+        // Large burst of smoke particles
+        for (int i = 0; i < 30; i++) {
+            double offsetX = (random.nextDouble() - 0.5) * 0.8;
+            double offsetY = (random.nextDouble() - 0.5) * 1.5;
+            double offsetZ = (random.nextDouble() - 0.5) * 0.8;
+            double velX = (random.nextDouble() - 0.5) * 0.2;
+            double velY = random.nextDouble() * 0.15;
+            double velZ = (random.nextDouble() - 0.5) * 0.2;
+            world.addParticleClient(ParticleTypes.LARGE_SMOKE, x + offsetX, y + offsetY, z + offsetZ, velX, velY, velZ);
+        }
+
+        // Some soul particles for extra effect
+        for (int i = 0; i < 10; i++) {
+            double offsetX = (random.nextDouble() - 0.5) * 0.5;
+            double offsetY = (random.nextDouble() - 0.5) * 1.2;
+            double offsetZ = (random.nextDouble() - 0.5) * 0.5;
+            world.addParticleClient(ParticleTypes.SOUL, x + offsetX, y + offsetY, z + offsetZ, 0, 0.05, 0);
+        }
     }
 
     @Override
     public boolean damage(ServerWorld world, DamageSource source, float amount) {
+        if (isRemoved() || wasDestroyed || isAlwaysInvulnerableTo(source)) {
+            return false;
+        }
+
         // Don't take damage from owner
         if (source.getAttacker() != null && source.getAttacker().getUuid().equals(ownerUuid)) {
             return false;
         }
-        
-        // Actually take damage now - clones are vulnerable
-        boolean result = super.damage(world, source, amount);
-        
-        // If we died, mark as destroyed and trigger callback
-        if (this.isDead() && !wasDestroyed) {
-            markDestroyed();
-        }
-        
-        return result;
-    }
 
-    @Override
-    public void onDeath(DamageSource damageSource) {
-        super.onDeath(damageSource);
-        if (!wasDestroyed) {
-            markDestroyed();
+        // Clones are vulnerable
+        health -= amount;
+        if (health <= 0.0f) {
+            markDestroyed(world);
         }
+        return true;
     }
-    
+
     /**
-     * Marks this clone as destroyed, spawns dissipation particles, and triggers callback.
+     * Marks this clone as destroyed, plays the dissipation effect, and triggers callback.
      */
-    private void markDestroyed() {
+    private void markDestroyed(ServerWorld world) {
         wasDestroyed = true;
-        
-        // Spawn dark smoke/shadow dissipation particles
-        if (getWorld() instanceof ServerWorld serverWorld) {
-            double x = getX();
-            double y = getY() + getHeight() / 2;
-            double z = getZ();
-            
-            // Large burst of smoke particles
-            for (int i = 0; i < 30; i++) {
-                double offsetX = (random.nextDouble() - 0.5) * 0.8;
-                double offsetY = (random.nextDouble() - 0.5) * 1.5;
-                double offsetZ = (random.nextDouble() - 0.5) * 0.8;
-                double velX = (random.nextDouble() - 0.5) * 0.2;
-                double velY = random.nextDouble() * 0.15;
-                double velZ = (random.nextDouble() - 0.5) * 0.2;
-                
-                serverWorld.spawnParticles(
-                    ParticleTypes.LARGE_SMOKE,
-                    x + offsetX, y + offsetY, z + offsetZ,
-                    1, velX, velY, velZ, 0.02
-                );
-            }
-            
-            // Some soul particles for extra effect
-            for (int i = 0; i < 10; i++) {
-                double offsetX = (random.nextDouble() - 0.5) * 0.5;
-                double offsetY = (random.nextDouble() - 0.5) * 1.2;
-                double offsetZ = (random.nextDouble() - 0.5) * 0.5;
-                
-                serverWorld.spawnParticles(
-                    ParticleTypes.SOUL,
-                    x + offsetX, y + offsetY, z + offsetZ,
-                    1, 0, 0.05, 0, 0.02
-                );
-            }
-        }
-        
+        world.sendEntityStatus(this, STATUS_DESTROYED);
+
         if (onDestroyedCallback != null) {
             onDestroyedCallback.accept(this);
         }
+        discard();
     }
 
     public boolean wasDestroyed() {
@@ -410,40 +406,37 @@ public class ShadowCloneEntity extends MobEntity {
     }
 
     @Override
-    public boolean isPushable() {
-        return false;
-    }
-
-    @Override
-    protected void pushAway(Entity entity) {
-        // Do nothing - clones phase through entities
+    public boolean canHit() {
+        return !isRemoved();
     }
 
     @Override
-    public boolean isAffectedBySplashPotions() {
+    public boolean isPushable() {
         return false;
     }
 
     @Override
-    public boolean hasNoDrag() {
+    public boolean isAttackable() {
         return true;
     }
 
-    // Getters for renderer
-    public float getSyncedBodyYaw() {
-        return this.dataTracker.get(BODY_YAW);
+    @Override
+    public void readCustomData(ReadView readView) {
+        // Clones only live for a moment - they are not saved
     }
 
-    public float getSyncedHeadYaw() {
-        return this.dataTracker.get(HEAD_YAW);
+    @Override
+    public void writeCustomData(WriteView writeView) {
     }
 
-    public float getLimbSwing() {
-        return this.dataTracker.get(LIMB_SWING);
+    @Override
+    public boolean shouldSave() {
+        return false;
     }
 
+    // Getters for renderer
     public ItemStack getWeaponStack() {
-        return weaponStack;
+        return this.dataTracker.get(WEAPON);
     }
 
     public UUID getOwnerUuid() {
@@ -1,5 +1,6 @@
 package com.leo.enchants.entity;
 
+import com.leo.enchants.logic.PortalEntryTracker;
 import com.leo.enchants.logic.SpaceTravelHandler;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
@@ -9,7 +10,6 @@ import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.data.TrackedDataHandlerRegistry;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.particle.ParticleTypes;
-import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.storage.ReadView;
 import net.minecraft.storage.WriteView;
@@ -17,7 +17,6 @@ import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -43,6 +42,9 @@ public class SpaceTravelPortalEntity extends Entity {
     private UUID ownerUuid = null;
     private int lifetimeTicks = 0;
     private float portalPitch = 0;
+    private SpaceTravelHandler.Landing preparedLanding = null; // Found while the portal is open (not saved)
+    private boolean landingRequested = false;
+    private boolean entryTracked = false;
     private static final int MAX_LIFETIME = 20 * 30; // 30 seconds max before auto-close
     private static final int CLOSING_DURATION = 20 * 3; // 3 seconds
     
@@ -95,16 +97,20 @@ public class SpaceTravelPortalEntity extends Entity {
                 if (closingTicks >= CLOSING_DURATION) {
                     // Unregister portal and remove
                     if (ownerUuid != null) {
-                        SpaceTravelHandler.unregisterPortal(ownerUuid);
+                        SpaceTravelHandler.unregisterPortal(serverWorld.getServer(), ownerUuid, this);
                     }
                     this.discard();
                     return;
                 }
             }
             
-            // Check for players entering the portal
+            // Get the landing spot ready; players walking in are detected by PortalEntryTracker
             if (!dataTracker.get(IS_CLOSING)) {
-                checkForPlayerEntry(serverWorld);
+                SpaceTravelHandler.prepareLanding(this);
+                if (!entryTracked) {
+                    PortalEntryTracker.track(this);
+                    entryTracked = true;
+                }
             }
             
             // Spawn particles
@@ -114,29 +120,37 @@ public class SpaceTravelPortalEntity extends Entity {
         }
     }
     
-    private void checkForPlayerEntry(ServerWorld world) {
-        // Create a hitbox for the curved portal surface
-        Box portalBox = new Box(
-            getX() - PORTAL_WIDTH / 2, getY() - PORTAL_HEIGHT / 2, getZ() - PORTAL_CURVE_DEPTH,
-            getX() + PORTAL_WIDTH / 2, getY() + PORTAL_HEIGHT / 2, getZ() + PORTAL_CURVE_DEPTH
-        );
+    /**
+     * Check if a player has stepped into the portal's curved surface.
+     * The player's position is moved into the portal's local frame (undoing PORTAL_YAW, as the
+     * renderer does) and tested against the half-ellipse the surface bends around,
+     * widened by half the player's width.
+     */
+    public boolean isInside(PlayerEntity player) {
+        // Vertical: the player's box must overlap the portal's height
+        double halfHeight = PORTAL_HEIGHT / 2;
+        Box box = player.getBoundingBox();
+        if (box.maxY < getY() - halfHeight || box.minY > getY() + halfHeight) {
+            return false;
+        }
         
-        List<PlayerEntity> playersInRange = world.getEntitiesByClass(
-            PlayerEntity.class, 
-            portalBox, 
-            player -> player instanceof ServerPlayerEntity
-        );
+        double yaw = Math.toRadians(dataTracker.get(PORTAL_YAW));
+        double cos = Math.cos(yaw);
+        double sin = Math.sin(yaw);
+        double dx = player.getX() - getX();
+        double dz = player.getZ() - getZ();
         
-        for (PlayerEntity player : playersInRange) {
-            if (player instanceof ServerPlayerEntity serverPlayer) {
-                // Teleport the player
-                SpaceTravelHandler.teleportThroughPortal(serverPlayer, this);
-                
-                // Start closing the portal
-                startClosing();
-                break;
-            }
+        // Local frame: x runs across the portal, z from the open side toward the curve
+        double localX = dx * cos + dz * sin;
+        double localZ = -dx * sin + dz * cos;
+        
+        double margin = player.getWidth() / 2;
+        if (localZ < -margin) {
+            return false;
         }
+        double ex = localX / (PORTAL_WIDTH / 2 + margin);
+        double ez = localZ / (PORTAL_CURVE_DEPTH + margin);
+        return ex * ex + ez * ez <= 1.0;
     }
     
     private void spawnPortalParticles(ServerWorld world) {
@@ -224,6 +238,22 @@ public class SpaceTravelPortalEntity extends Entity {
         return portalPitch;
     }
     
+    public SpaceTravelHandler.Landing getPreparedLanding() {
+        return preparedLanding;
+    }
+    
+    public void setPreparedLanding(SpaceTravelHandler.Landing landing) {
+        this.preparedLanding = landing;
+    }
+    
+    public boolean isLandingRequested() {
+        return landingRequested;
+    }
+    
+    public void setLandingRequested(boolean requested) {
+        this.landingRequested = requested;
+    }
+    
     public int getClosingTicks() {
         return dataTracker.get(CLOSING_TICKS);
     }
@@ -0,0 +1,127 @@
+package com.leo.enchants.logic;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.leo.enchants.LeoEnchantsMod;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.JsonOps;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
+import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.ItemEnchantmentsComponent;
+import net.minecraft.enchantment.Enchantment;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.resource.Resource;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.util.Identifier;
+
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Data-driven anvil combination costs for enchantments.
+ * 
+ * Loaded from data/<namespace>/anvil_cost/*.json with the datapack, e.g.
+ * { "enchantment": "leo_enchants:wither_impact", "level_costs": { "1": 30, "2": 60 } }
+ * 
+ * When both anvil inputs carry the enchantment at the same level and the table has a cost
+ * for that level, the anvil's level cost is overridden. Future enchantments only need a new JSON file.
+ */
+public class AnvilCostTable {
+    
+    private static final String DIRECTORY = "anvil_cost";
+    
+    /**
+     * One anvil_cost JSON file.
+     */
+    private record Entry(Identifier enchantment, Map<Integer, Integer> levelCosts) {
+        static final Codec<Entry> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Identifier.CODEC.fieldOf("enchantment").forGetter(Entry::enchantment),
+            Codec.unboundedMap(Codec.STRING.xmap(Integer::parseInt, String::valueOf), Codec.INT)
+                .fieldOf("level_costs").forGetter(Entry::levelCosts)
+        ).apply(instance, Entry::new));
+    }
+    
+    // Enchantment -> cost indexed by level (0 = no custom cost)
+    private static volatile Map<RegistryKey<Enchantment>, int[]> costs = Map.of();
+    
+    /**
+     * Register the datapack reload listener (call from main mod initializer)
+     */
+    public static void register() {
+        ResourceManagerHelper.get(ResourceType.SERVER_DATA).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
+            @Override
+            public Identifier getFabricId() {
+                return Identifier.of(LeoEnchantsMod.MOD_ID, DIRECTORY);
+            }
+            
+            @Override
+            public void reload(ResourceManager manager) {
+                load(manager);
+            }
+        });
+    }
+    
+    public static boolean isEmpty() {
+        return costs.isEmpty();
+    }
+    
+    /**
+     * Get the custom combination cost for two anvil inputs, or 0 if none applies.
+     */
+    public static int getCombineCost(ItemStack first, ItemStack second) {
+        ItemEnchantmentsComponent enchantments1 = first.get(DataComponentTypes.ENCHANTMENTS);
+        ItemEnchantmentsComponent enchantments2 = second.get(DataComponentTypes.ENCHANTMENTS);
+        if (enchantments1 == null || enchantments2 == null || enchantments1.isEmpty() || enchantments2.isEmpty()) {
+            return 0;
+        }
+        
+        Map<RegistryKey<Enchantment>, int[]> table = costs;
+        for (var entry : enchantments1.getEnchantmentEntries()) {
+            RegistryEntry<Enchantment> enchantment = entry.getKey();
+            int[] levelCosts = enchantment.getKey().map(table::get).orElse(null);
+            if (levelCosts == null) {
+                continue;
+            }
+            
+            int level = entry.getIntValue();
+            if (level > 0 && level < levelCosts.length && levelCosts[level] > 0
+                    && enchantments2.getLevel(enchantment) == level) {
+                return levelCosts[level];
+            }
+        }
+        return 0;
+    }
+    
+    private static void load(ResourceManager manager) {
+        Map<RegistryKey<Enchantment>, int[]> loaded = new HashMap<>();
+        
+        for (Map.Entry<Identifier, Resource> file : manager.findResources(DIRECTORY, id -> id.getPath().endsWith(".json")).entrySet()) {
+            try (Reader reader = file.getValue().getReader()) {
+                JsonElement json = JsonParser.parseReader(reader);
+                Entry entry = Entry.CODEC.parse(JsonOps.INSTANCE, json).getOrThrow();
+                
+                int maxLevel = entry.levelCosts().keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+                int[] levelCosts = new int[maxLevel + 1];
+                entry.levelCosts().forEach((level, cost) -> {
+                    if (level > 0) {
+                        levelCosts[level] = cost;
+                    }
+                });
+                
+                loaded.put(RegistryKey.of(RegistryKeys.ENCHANTMENT, entry.enchantment()), levelCosts);
+            } catch (Exception e) {
+                LeoEnchantsMod.LOGGER.warn("Failed to load anvil cost {}: {}", file.getKey(), e.getMessage());
+            }
+        }
+        
+        costs = Map.copyOf(loaded);
+        LeoEnchantsMod.LOGGER.info("Loaded {} anvil cost entries", loaded.size());
+    }
+}
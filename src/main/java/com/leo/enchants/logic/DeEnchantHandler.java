@@ -1,5 +1,7 @@
 package com.leo.enchants.logic;
 
+import com.leo.enchants.attachment.ModAttachments;
+import com.leo.enchants.attachment.PlayerAbilityState;
 import com.leo.enchants.entity.DigitDisintegrationEntity;
 import com.leo.enchants.entity.ModEntities;
 import com.leo.enchants.item.ModItems;
@@ -16,10 +18,6 @@ import net.minecraft.util.ActionResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Handles the de-enchant item's attack events.
  * When a player attacks an entity or block with the de-enchant item,
@@ -27,9 +25,6 @@ import java.util.UUID;
  */
 public class DeEnchantHandler {
     
-    // Cooldown tracking: player UUID -> last use time (world ticks)
-    private static final Map<UUID, Long> lastUseTime = new HashMap<>();
-    
     // Cooldown in ticks (10 ticks = 0.5 seconds)
     private static final long COOLDOWN_TICKS = 10;
     
@@ -37,12 +32,12 @@ public class DeEnchantHandler {
      * Checks if a player can use the de-enchant item (cooldown check).
      */
     private static boolean canUse(PlayerEntity player, World world) {
-        UUID playerId = player.getUuid();
+        PlayerAbilityState state = ModAttachments.get(player);
         long currentTime = world.getTime();
         
-        Long lastTime = lastUseTime.get(playerId);
-        if (lastTime == null || currentTime - lastTime >= COOLDOWN_TICKS) {
-            lastUseTime.put(playerId, currentTime);
+        // Last use time is tracked in the player's ability state (Long.MIN_VALUE = never used)
+        if (state.deEnchantLastUseTime == Long.MIN_VALUE || currentTime - state.deEnchantLastUseTime >= COOLDOWN_TICKS) {
+            state.deEnchantLastUseTime = currentTime;
             return true;
         }
         return false;
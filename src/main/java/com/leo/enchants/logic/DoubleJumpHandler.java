@@ -2,14 +2,8 @@ package com.leo.enchants.logic;
 
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.network.ClientPlayerEntity;
-import net.minecraft.component.DataComponentTypes;
-import net.minecraft.component.type.ItemEnchantmentsComponent;
-import net.minecraft.entity.EquipmentSlot;
-import net.minecraft.item.ItemStack;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.sound.SoundEvents;
-import net.minecraft.util.Identifier;
-import net.minecraft.util.math.Vec3d;
 
 import com.leo.enchants.network.ModNetworking;
 
@@ -18,8 +12,6 @@ import java.util.Map;
 import java.util.UUID;
 
 public class DoubleJumpHandler {
-    private static final Identifier DOUBLE_JUMP_ID = Identifier.of("leo_enchants", "double_jump");
-    
     // Track which players have used their double jump (reset on landing)
     private static final Map<UUID, Boolean> canDoubleJump = new HashMap<>();
     private static final Map<UUID, Boolean> wasOnGround = new HashMap<>();
@@ -69,7 +61,7 @@ public class DoubleJumpHandler {
         if (!isOnGround && jumpKeyPressed && !jumpKeyWasPressed) {
             if (hasReleasedJumpSinceLeavingGround.getOrDefault(playerId, false)
                     && canDoubleJump.getOrDefault(playerId, false)) {
-                int level = getDoubleJumpLevel(player);
+                int level = MovementAbilities.getDoubleJumpLevel(player);
                 if (level > 0) {
                     performDoubleJump(client, player, level, currentTime);
                     canDoubleJump.put(playerId, false);
@@ -107,64 +99,20 @@ public class DoubleJumpHandler {
         player.fallDistance = 0;
     }
     
-    /**
-     * Get the level of double jump enchantment on player's boots
-     * Returns 0 if not enchanted
-     */
-    private static int getDoubleJumpLevel(ClientPlayerEntity player) {
-        ItemStack boots = player.getEquippedStack(EquipmentSlot.FEET);
-        
-        if (boots.isEmpty()) {
-            return 0;
-        }
-        
-        ItemEnchantmentsComponent enchantments = boots.get(DataComponentTypes.ENCHANTMENTS);
-        if (enchantments == null) {
-            return 0;
-        }
-        
-        for (var entry : enchantments.getEnchantmentEntries()) {
-            if (entry.getKey().matchesId(DOUBLE_JUMP_ID)) {
-                return entry.getIntValue();
-            }
-        }
-        
-        return 0;
-    }
-    
     /**
      * Perform the double jump
      * @param level Enchantment level (1 = normal, 2 = horizontal boost)
      */
     private static void performDoubleJump(MinecraftClient client, ClientPlayerEntity player, int level, long currentTime) {
-        Vec3d currentVelocity = player.getVelocity();
-        Vec3d lookDirection = player.getRotationVector();
-        
-        double verticalVelocity;
-        double horizontalBoost;
-        
-        if (level >= 2) {
-            // Level 2: Slightly less vertical, but boost horizontal in look direction
-            verticalVelocity = 0.4; // Less than level 1
-            horizontalBoost = 0.6; // Horizontal boost in look direction
-            
-            // Calculate new horizontal velocity with boost in look direction
-            double newVelX = currentVelocity.x + lookDirection.x * horizontalBoost;
-            double newVelZ = currentVelocity.z + lookDirection.z * horizontalBoost;
-            
-            player.setVelocity(newVelX, verticalVelocity, newVelZ);
-        } else {
-            // Level 1: Normal double jump (mostly vertical)
-            verticalVelocity = 0.5;
-            player.setVelocity(currentVelocity.x, verticalVelocity, currentVelocity.z);
-        }
+        // Jump right away; the server checks the boots and applies the same velocity
+        player.setVelocity(MovementAbilities.doubleJumpVelocity(player.getVelocity(), player.getRotationVector(), level));
         
         // Grant 3 seconds of fall damage immunity (client-side tracking)
         fallDamageImmunityEndTime.put(player.getUuid(), currentTime + IMMUNITY_DURATION_TICKS);
         player.fallDistance = 0;
         
-        // Send packet to server to grant server-side fall damage immunity
-        ModNetworking.sendDoubleJumpImmunityRequest();
+        // Send the intent to the server, which grants server-side fall damage immunity if it's valid
+        ModNetworking.sendMovementInput((byte) (StrafeHandler.getInput() | MovementAbilities.INPUT_DOUBLE_JUMP));
         
         // Play a wind/swoosh sound
         player.playSound(SoundEvents.ENTITY_PLAYER_ATTACK_SWEEP, 0.5f, 1.5f);
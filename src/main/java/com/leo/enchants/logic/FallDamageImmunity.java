@@ -1,20 +1,16 @@
 package com.leo.enchants.logic;
 
+import com.leo.enchants.attachment.ModAttachments;
+import com.leo.enchants.attachment.PlayerAbilityState;
 import net.minecraft.entity.player.PlayerEntity;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Tracks fall damage immunity for players.
  * Used by both Wither Impact and Double Jump enchantments.
+ * The expiry time is stored in the player's PlayerAbilityState attachment.
  */
 public class FallDamageImmunity {
     
-    // Track when fall damage immunity expires (game time in ticks)
-    private static final Map<UUID, Long> immunityEndTime = new HashMap<>();
-    
     // 3 seconds = 60 ticks
     public static final int IMMUNITY_DURATION_TICKS = 60;
     
@@ -24,7 +20,7 @@ public class FallDamageImmunity {
      * @param currentGameTime Current game time in ticks
      */
     public static void grantImmunity(PlayerEntity player, long currentGameTime) {
-        immunityEndTime.put(player.getUuid(), currentGameTime + IMMUNITY_DURATION_TICKS);
+        ModAttachments.get(player).fallImmunityEndTime = currentGameTime + IMMUNITY_DURATION_TICKS;
         player.fallDistance = 0;
     }
     
@@ -36,22 +32,20 @@ public class FallDamageImmunity {
      * @return true if player has immunity (and fallDistance was reset)
      */
     public static boolean tickImmunity(PlayerEntity player, long currentGameTime) {
-        UUID playerId = player.getUuid();
-        Long endTime = immunityEndTime.get(playerId);
-        
-        if (endTime == null) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        if (state == null || state.fallImmunityEndTime < 0) {
             return false;
         }
         
         // If player is on ground, cancel immunity
         if (player.isOnGround()) {
-            immunityEndTime.remove(playerId);
+            state.fallImmunityEndTime = -1;
             return false;
         }
         
         // If immunity has expired, remove it
-        if (currentGameTime >= endTime) {
-            immunityEndTime.remove(playerId);
+        if (currentGameTime >= state.fallImmunityEndTime) {
+            state.fallImmunityEndTime = -1;
             return false;
         }
         
@@ -63,16 +57,8 @@ public class FallDamageImmunity {
     /**
      * Check if player currently has immunity (without ticking)
      */
-    public static boolean hasImmunity(UUID playerId, long currentGameTime) {
-        Long endTime = immunityEndTime.get(playerId);
-        return endTime != null && currentGameTime < endTime;
-    }
-    
-    /**
-     * Remove player data (call when player disconnects)
-     */
-    public static void removePlayer(UUID playerId) {
-        immunityEndTime.remove(playerId);
+    public static boolean hasImmunity(PlayerEntity player, long currentGameTime) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        return state != null && state.fallImmunityEndTime >= 0 && currentGameTime < state.fallImmunityEndTime;
     }
 }
-
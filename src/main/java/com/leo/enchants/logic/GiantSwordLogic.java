@@ -13,7 +13,6 @@ import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.registry.Registries;
-import net.minecraft.world.RaycastContext;
 import net.minecraft.world.World;
 
 public class GiantSwordLogic {
@@ -95,24 +94,14 @@ public class GiantSwordLogic {
     }
     
     private static Vec3d getTargetPosition(PlayerEntity player, World world) {
-        Vec3d eyePos = player.getCameraPosVec(1.0f);
-        Vec3d lookVec = player.getRotationVector();
         double maxDistance = 100.0; // Max targeting distance
         
-        Vec3d endPos = eyePos.add(lookVec.multiply(maxDistance));
-        
-        // Raycast to find target block
-        BlockHitResult hitResult = world.raycast(new RaycastContext(
-            eyePos,
-            endPos,
-            RaycastContext.ShapeType.COLLIDER,
-            RaycastContext.FluidHandling.NONE,
-            player
-        ));
+        LookTargetResolver.LookTarget look = LookTargetResolver.resolve(player, maxDistance);
+        BlockHitResult hitResult = look.blockHit();
         
         if (hitResult.getType() == HitResult.Type.MISS) {
             // If no block hit, target the max distance position
-            return endPos;
+            return look.end();
         }
         
         // Return the hit position
@@ -24,42 +24,29 @@ public class GrabHandler {
     // Vertical boost to help clear obstacles
     private static final double VERTICAL_BOOST = 0.3;
 
+    // How long the server watches the launch arc for drift
+    private static final int ARC_TRACK_TICKS = 20;
+
     /**
      * Pull the player toward the bobber's position.
+     * The launch is computed by the client from the same {@link PullTrajectory}, so no velocity packet is sent.
      * 
      * @param player The player to pull
      * @param bobberPos The position of the fishing bobber
-     * @param distance The distance between player and bobber
      */
-    public static void pullPlayerToBobber(PlayerEntity player, Vec3d bobberPos, double distance) {
+    public static void pullPlayerToBobber(PlayerEntity player, Vec3d bobberPos) {
         Vec3d playerPos = player.getPos().add(0, player.getEyeHeight(player.getPose()) / 2, 0);
         
-        // Calculate direction from player to bobber
-        Vec3d direction = bobberPos.subtract(playerPos).normalize();
-        
-        // Calculate pull velocity based on distance (stronger pull for longer distances)
-        double pullMultiplier = Math.min(distance * PULL_STRENGTH, MAX_VELOCITY);
-        
-        // Calculate velocity components
-        double velX = direction.x * pullMultiplier;
-        double velY = direction.y * pullMultiplier + VERTICAL_BOOST; // Add vertical boost
-        double velZ = direction.z * pullMultiplier;
-        
-        // Clamp the total velocity
-        Vec3d newVelocity = new Vec3d(velX, velY, velZ);
-        if (newVelocity.length() > MAX_VELOCITY) {
-            newVelocity = newVelocity.normalize().multiply(MAX_VELOCITY);
-        }
-        
-        // Set player velocity
-        player.setVelocity(newVelocity);
-        player.velocityModified = true;
-        
         // Reset fall distance to prevent fall damage from the launch
         player.fallDistance = 0;
         
-        // Grant temporary fall damage immunity
         if (player instanceof ServerPlayerEntity serverPlayer) {
+            // Launch on both sides: the server's copy directly, the client from the trajectory
+            PullTrajectory trajectory = PullTrajectory.grab(player.getPos(), bobberPos, ARC_TRACK_TICKS);
+            player.setVelocity(trajectory.launchVelocity());
+            PullSync.start(serverPlayer, trajectory);
+            
+            // Grant temporary fall damage immunity
             ServerWorld serverWorld = (ServerWorld) serverPlayer.getWorld();
             long currentTime = serverWorld.getTime();
             FallDamageImmunity.grantImmunity(serverPlayer, currentTime);
@@ -83,6 +70,29 @@ public class GrabHandler {
         }
     }
     
+    /**
+     * Launch velocity from {@code from} toward the bobber (stronger pull for longer distances).
+     */
+    static Vec3d launchVelocity(Vec3d from, Vec3d bobberPos) {
+        // Calculate direction from player to bobber
+        Vec3d direction = bobberPos.subtract(from).normalize();
+        
+        // Calculate pull velocity based on distance (stronger pull for longer distances)
+        double pullMultiplier = Math.min(from.distanceTo(bobberPos) * PULL_STRENGTH, MAX_VELOCITY);
+        
+        // Calculate velocity components
+        double velX = direction.x * pullMultiplier;
+        double velY = direction.y * pullMultiplier + VERTICAL_BOOST; // Add vertical boost
+        double velZ = direction.z * pullMultiplier;
+        
+        // Clamp the total velocity
+        Vec3d newVelocity = new Vec3d(velX, velY, velZ);
+        if (newVelocity.length() > MAX_VELOCITY) {
+            newVelocity = newVelocity.normalize().multiply(MAX_VELOCITY);
+        }
+        return newVelocity;
+    }
+    
     /**
      * Spawn particles along the grapple path to visualize the pull.
      */
@@ -1,5 +1,9 @@
 package com.leo.enchants.logic;
 
+import com.leo.enchants.attachment.ModAttachments;
+import com.leo.enchants.attachment.PlayerAbilityState;
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -9,11 +13,6 @@ import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Handles the Hookshot enchantment logic for instant grappling functionality.
  * When a player uses a fishing rod with Hookshot enchantment:
@@ -29,19 +28,30 @@ public class HookshotHandler {
     
     // How long to actively pull toward target (in ticks) before starting hold
     private static final int PULL_PHASE_TICKS = 30;
-    
-    // Track players being held at hookshot positions
-    private static final Map<UUID, HookshotHoldData> activeHolds = new HashMap<>();
 
     /**
-     * Data class to track hookshot hold state
+     * Data class to track hookshot hold state.
+     * Stored in the player's PlayerAbilityState and persisted so an interrupted hold resumes after a relog.
      */
     public static class HookshotHoldData {
+        public static final Codec<HookshotHoldData> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Vec3d.CODEC.fieldOf("hold_position").forGetter(data -> data.holdPosition),
+            Codec.LONG.fieldOf("pull_end_time").forGetter(data -> data.pullEndTime),
+            Codec.LONG.fieldOf("hold_end_time").forGetter(data -> data.holdEndTime),
+            BlockPos.CODEC.fieldOf("attached_block").forGetter(data -> data.attachedBlock),
+            Codec.BOOL.optionalFieldOf("reached_target", false).forGetter(data -> data.reachedTarget)
+        ).apply(instance, (holdPosition, pullEndTime, holdEndTime, attachedBlock, reachedTarget) -> {
+            HookshotHoldData data = new HookshotHoldData(holdPosition, pullEndTime, holdEndTime, attachedBlock);
+            data.reachedTarget = reachedTarget;
+            return data;
+        }));
+        
         public final Vec3d holdPosition;
         public final long pullEndTime;    // When to stop strong pull
         public final long holdEndTime;    // When to release completely
         public final BlockPos attachedBlock;
         public boolean reachedTarget;     // Has player reached the target?
+        public boolean sentToClient;      // Has the client been sent the pull? (not saved)
         
         public HookshotHoldData(Vec3d holdPosition, long pullEndTime, long holdEndTime, BlockPos attachedBlock) {
             this.holdPosition = holdPosition;
@@ -74,13 +84,12 @@ public class HookshotHandler {
             // Register the hold - pull phase + hold phase
             long pullEndTime = currentTime + PULL_PHASE_TICKS;
             long holdEndTime = pullEndTime + HOLD_DURATION_TICKS;
-            activeHolds.put(player.getUuid(), new HookshotHoldData(safePosition, pullEndTime, holdEndTime, attachedBlock));
+            HookshotHoldData data = new HookshotHoldData(safePosition, pullEndTime, holdEndTime, attachedBlock);
+            ModAttachments.get(serverPlayer).hookshotHold = data;
             
-            // Also apply an immediate velocity boost toward the target
-            Vec3d direction = safePosition.subtract(playerPos).normalize();
-            double initialSpeed = Math.min(playerPos.distanceTo(safePosition) * 0.5, 2.0);
-            player.setVelocity(direction.multiply(initialSpeed));
-            player.velocityModified = true;
+            // The client flies the pull and hold itself from this one message
+            PullSync.start(serverPlayer, PullTrajectory.hookshot(playerPos, safePosition, PULL_PHASE_TICKS, HOLD_DURATION_TICKS));
+            data.sentToClient = true;
         }
         
         // Reset fall distance
@@ -129,159 +138,63 @@ public class HookshotHandler {
     }
     
     /**
-     * Tick the hookshot hold system.
-     * Should be called every server tick.
+     * Tick the hookshot hold for a single player.
+     * Should be called every server tick for each player.
      */
-    public static void tickHolds(ServerWorld world) {
-        long currentTime = world.getTime();
-        
-        Iterator<Map.Entry<UUID, HookshotHoldData>> iterator = activeHolds.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, HookshotHoldData> entry = iterator.next();
-            UUID playerId = entry.getKey();
-            HookshotHoldData data = entry.getValue();
-            
-            // Find the player
-            PlayerEntity player = world.getPlayerByUuid(playerId);
-            if (player == null) {
-                iterator.remove();
-                continue;
-            }
-            
-            // Check if hold has expired
-            if (currentTime >= data.holdEndTime) {
-                iterator.remove();
-                continue;
-            }
-            
-            double distanceToHold = player.getPos().distanceTo(data.holdPosition);
-            
-            // Pull phase - actively pull player toward target
-            if (currentTime < data.pullEndTime) {
-                applyPullEffect(player, data, distanceToHold);
-            } else {
-                // Hold phase - keep player stuck to wall
-                applyHoldEffect(player, data, distanceToHold);
-            }
-            
-            // Reset fall distance during entire hookshot
-            player.fallDistance = 0;
-            
-            // Keep granting fall damage immunity
-            FallDamageImmunity.grantImmunity(player, currentTime);
+    public static void tickHold(ServerPlayerEntity player) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        if (state == null || state.hookshotHold == null) {
+            return;
         }
-    }
-    
-    /**
-     * Apply strong pull effect to bring player to target.
-     */
-    private static void applyPullEffect(PlayerEntity player, HookshotHoldData data, double distance) {
-        Vec3d playerPos = player.getPos();
-        Vec3d holdPos = data.holdPosition;
         
-        // Calculate direction to target
-        Vec3d pullDir = holdPos.subtract(playerPos).normalize();
+        HookshotHoldData data = state.hookshotHold;
+        long currentTime = player.getWorld().getTime();
         
-        // Strong pull - scale with distance
-        double pullSpeed;
-        if (distance > 10.0) {
-            pullSpeed = 4.0; // Very fast when far
-        } else if (distance > 5.0) {
-            pullSpeed = 3.5; // Fast when medium-far
-        } else if (distance > 2.0) {
-            pullSpeed = 2.5; // Medium when closer
-        } else if (distance > 0.5) {
-            pullSpeed = 1.5; // Slower when very close
-            data.reachedTarget = true;
-        } else {
-            // Very close - just set position directly
-            player.setPosition(holdPos.x, holdPos.y, holdPos.z);
-            player.setVelocity(0, 0, 0);
-            player.velocityModified = true;
-            data.reachedTarget = true;
+        // Check if hold has expired
+        if (currentTime >= data.holdEndTime) {
+            state.hookshotHold = null;
             return;
         }
         
-        // Set velocity directly toward target
-        Vec3d newVelocity = pullDir.multiply(pullSpeed);
-        player.setVelocity(newVelocity);
-        player.velocityModified = true;
-        
-        // Check for suffocation during pull
-        preventSuffocation(player, data);
-    }
-    
-    /**
-     * Apply hold effect to keep player stuck at the wall.
-     */
-    private static void applyHoldEffect(PlayerEntity player, HookshotHoldData data, double distance) {
-        Vec3d holdPos = data.holdPosition;
-        Vec3d playerPos = player.getPos();
+        // A hold restored after a relog still has to reach the client
+        if (!data.sentToClient) {
+            int pullTicks = (int) Math.max(0, data.pullEndTime - currentTime);
+            int holdTicks = (int) (data.holdEndTime - Math.max(currentTime, data.pullEndTime));
+            PullSync.start(player, PullTrajectory.hookshot(player.getPos(), data.holdPosition, pullTicks, holdTicks));
+            data.sentToClient = true;
+        }
         
-        // If player is close enough, LOCK them to the position
-        if (distance < 0.5) {
-            // Player is at the hold position - keep them there
-            // Apply a small "sticky" velocity to counteract gravity
-            player.setVelocity(0, 0.02, 0); // Tiny upward to counteract gravity
-            player.velocityModified = true;
-            
-            // Check for suffocation and adjust if needed
-            preventSuffocation(player, data);
-        } else if (distance < 3.0) {
-            // Player drifted slightly, pull them back
-            Vec3d pullDir = holdPos.subtract(playerPos).normalize();
-            double pullStrength = Math.min(distance * 1.5, 2.0);
-            
-            Vec3d newVelocity = pullDir.multiply(pullStrength);
-            player.setVelocity(newVelocity);
-            player.velocityModified = true;
+        // The client follows the pull; the server only watches for drift (PullSync)
+        if (!data.reachedTarget && player.getPos().distanceTo(data.holdPosition) <= 2.0) {
+            data.reachedTarget = true;
         }
-        // If player is too far (>3 blocks), they've escaped somehow, let them go
-    }
-    
-    /**
-     * Prevent player from suffocating in blocks.
-     */
-    private static void preventSuffocation(PlayerEntity player, HookshotHoldData data) {
-        BlockPos playerBlockPos = player.getBlockPos();
-        BlockPos headPos = playerBlockPos.up();
         
-        boolean feetInBlock = player.getWorld().getBlockState(playerBlockPos).isSolidBlock(player.getWorld(), playerBlockPos);
-        boolean headInBlock = player.getWorld().getBlockState(headPos).isSolidBlock(player.getWorld(), headPos);
+        // Reset fall distance during entire hookshot
+        player.fallDistance = 0;
         
-        if (feetInBlock || headInBlock) {
-            // Push player out of the block toward their hold position
-            Vec3d blockCenter = Vec3d.ofCenter(data.attachedBlock);
-            Vec3d holdPos = data.holdPosition;
-            
-            // The hold position should already be outside the block
-            // Push the player toward the hold position
-            Vec3d pushDir = holdPos.subtract(blockCenter);
-            if (pushDir.lengthSquared() < 0.01) {
-                // Fallback: push upward
-                pushDir = new Vec3d(0, 1, 0);
-            } else {
-                pushDir = pushDir.normalize();
-            }
-            
-            // Move player out toward the hold position
-            Vec3d newPos = blockCenter.add(pushDir.multiply(1.2));
-            player.setPosition(newPos.x, newPos.y, newPos.z);
-        }
+        // Keep granting fall damage immunity
+        FallDamageImmunity.grantImmunity(player, currentTime);
     }
     
     /**
      * Check if a player is currently in a hookshot hold.
      */
-    public static boolean isInHold(UUID playerId) {
-        return activeHolds.containsKey(playerId);
+    public static boolean isInHold(PlayerEntity player) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        return state != null && state.hookshotHold != null;
     }
     
     /**
      * Cancel a player's hookshot hold.
      */
-    public static void cancelHold(UUID playerId) {
-        activeHolds.remove(playerId);
+    public static void cancelHold(PlayerEntity player) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        if (state != null) {
+            state.hookshotHold = null;
+        }
+        if (player instanceof ServerPlayerEntity serverPlayer) {
+            PullSync.stop(serverPlayer);
+        }
     }
     
     /**
@@ -308,11 +221,4 @@ public class HookshotHandler {
             currentPos = currentPos.add(step);
         }
     }
-    
-    /**
-     * Clean up data for a disconnected player.
-     */
-    public static void removePlayer(UUID playerId) {
-        activeHolds.remove(playerId);
-    }
 }
@@ -0,0 +1,150 @@
+package com.leo.enchants.logic;
+
+import com.leo.enchants.LeoEnchantsMod;
+import com.leo.enchants.item.ModItems;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.player.UseItemCallback;
+import net.minecraft.enchantment.Enchantment;
+import net.minecraft.enchantment.EnchantmentHelper;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.DynamicRegistryManager;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.registry.tag.ItemTags;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.ActionResult;
+import net.minecraft.util.Hand;
+import net.minecraft.world.World;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Single UseItemCallback for every right-click ability in the mod.
+ * 
+ * Items are routed through a precomputed item -> route table, and the enchantment
+ * registry entries are resolved once whenever tags are (re)loaded, so a right-click with
+ * an unrelated item (bread, blocks, ...) does no registry or enchantment work.
+ * 
+ * Route order matches the original listener order:
+ * Obsidian Lore -> Wither Impact -> Giant (sneaking) -> Shadow Assassin (any item).
+ */
+public class ItemUseDispatcher {
+    
+    @FunctionalInterface
+    private interface Route {
+        ActionResult use(PlayerEntity player, World world, Hand hand, ItemStack stack, RouteTable table);
+    }
+    
+    /**
+     * Item routes and enchantment handles resolved against one side's registries.
+     * The client and (integrated) server keep separate tables since their registry entries differ.
+     */
+    private record RouteTable(Map<Item, Route> routes,
+                              RegistryEntry<Enchantment> witherImpact,
+                              RegistryEntry<Enchantment> giant,
+                              RegistryEntry<Enchantment> shadowAssassin) {}
+    
+    private static volatile RouteTable serverTable;
+    private static volatile RouteTable clientTable;
+    
+    /**
+     * Register the dispatcher and the hooks that keep its table fresh.
+     */
+    public static void register() {
+        // Tags are loaded on server start, on /reload and when the client receives them
+        CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+            RouteTable table = buildTable(registries);
+            if (client) {
+                clientTable = table;
+            } else {
+                serverTable = table;
+            }
+        });
+        
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> serverTable = null);
+        
+        // Track whether each player is wearing a Shadow Assassin chestplate, so activation needs no armor scan
+        ServerEntityEvents.EQUIPMENT_CHANGE.register((entity, slot, previousStack, currentStack) -> {
+            if (slot == EquipmentSlot.CHEST && entity instanceof ServerPlayerEntity player) {
+                RouteTable table = serverTable;
+                boolean equipped = table != null && table.shadowAssassin() != null
+                    && EnchantmentHelper.getLevel(table.shadowAssassin(), currentStack) > 0;
+                ShadowAssassinHandler.setEquipped(player, equipped);
+            }
+        });
+        
+        UseItemCallback.EVENT.register(ItemUseDispatcher::onUseItem);
+        
+        LeoEnchantsMod.LOGGER.info("Registered item use dispatcher");
+    }
+    
+    private static ActionResult onUseItem(PlayerEntity player, World world, Hand hand) {
+        RouteTable table = world.isClient() ? clientTable : serverTable;
+        if (table == null) {
+            return ActionResult.PASS;
+        }
+        
+        ItemStack stack = player.getStackInHand(hand);
+        if (!stack.isEmpty()) {
+            Route route = table.routes().get(stack.getItem());
+            if (route != null) {
+                ActionResult result = route.use(player, world, hand, stack, table);
+                if (result != ActionResult.PASS) {
+                    return result;
+                }
+            }
+        }
+        
+        // Shadow Assassin works with any held item; the chestplate flag is cached per player
+        return ShadowAssassinHandler.tryActivate(player, world, hand);
+    }
+    
+    private static RouteTable buildTable(DynamicRegistryManager registries) {
+        var enchantments = registries.getOptional(RegistryKeys.ENCHANTMENT);
+        RegistryEntry<Enchantment> witherImpact = enchantments.flatMap(registry -> registry.getEntry(LeoEnchantsMod.WITHER_IMPACT.getValue())).orElse(null);
+        RegistryEntry<Enchantment> giant = enchantments.flatMap(registry -> registry.getEntry(LeoEnchantsMod.GIANT.getValue())).orElse(null);
+        RegistryEntry<Enchantment> shadowAssassin = enchantments.flatMap(registry -> registry.getEntry(LeoEnchantsMod.SHADOW_ASSASSIN.getValue())).orElse(null);
+        
+        Map<Item, Route> routes = new IdentityHashMap<>();
+        routes.put(ModItems.OBSIDIAN_LORE, (player, world, hand, stack, table) ->
+            ObsidianLoreHandler.onUseItem(player, world, hand, stack));
+        
+        if (witherImpact != null || giant != null) {
+            for (RegistryEntry<Item> sword : Registries.ITEM.iterateEntries(ItemTags.SWORDS)) {
+                routes.putIfAbsent(sword.value(), ItemUseDispatcher::useSword);
+            }
+        }
+        
+        return new RouteTable(routes, witherImpact, giant, shadowAssassin);
+    }
+    
+    /**
+     * Sword abilities: Wither Impact on right-click, Giant on sneak + right-click.
+     */
+    private static ActionResult useSword(PlayerEntity player, World world, Hand hand, ItemStack stack, RouteTable table) {
+        if (table.witherImpact() != null) {
+            int level = EnchantmentHelper.getLevel(table.witherImpact(), stack);
+            if (level > 0) {
+                WitherImpactLogic.activate(player, world, level);
+                return ActionResult.SUCCESS;
+            }
+        }
+        
+        // Check if player is sneaking to activate Giant (to differentiate from Wither Impact)
+        if (table.giant() != null && player.isSneaking()) {
+            int level = EnchantmentHelper.getLevel(table.giant(), stack);
+            if (level > 0 && GiantSwordLogic.activate(player, world, level)) {
+                return ActionResult.SUCCESS;
+            }
+        }
+        
+        return ActionResult.PASS;
+    }
+}
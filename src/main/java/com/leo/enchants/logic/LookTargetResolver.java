@@ -0,0 +1,206 @@
+package com.leo.enchants.logic;
+
+import com.leo.enchants.entity.ShadowCloneEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.hit.EntityHitResult;
+import net.minecraft.util.hit.HitResult;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.RaycastContext;
+import net.minecraft.world.World;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Shared "what is the player looking at" resolver for Shadow Assassin, Obsidian Lore,
+ * Giant and Wither Impact.
+ *
+ * One block raycast per lookup; the entity broad-phase query only runs if a caller asks
+ * for entities, and then only once. Cone scoring uses a single dot product and square root
+ * per candidate, and only the best cone candidate gets an occlusion raycast.
+ * On the server, results are reused for the rest of the tick if the player hasn't moved or turned.
+ */
+public final class LookTargetResolver {
+
+    // Extra hit margin around entity boxes for the look ray
+    private static final double RAY_MARGIN = 0.3;
+
+    // Last lookup per server player (weak so removed players are dropped); server thread only
+    private static final Map<PlayerEntity, LookTarget> LAST_LOOKUP = new WeakHashMap<>();
+
+    private LookTargetResolver() {}
+
+    /**
+     * Resolve what the player is looking at within {@code range} blocks.
+     */
+    public static LookTarget resolve(PlayerEntity player, double range) {
+        World world = player.getWorld();
+        long time = world.getTime();
+        Vec3d eye = player.getCameraPosVec(1.0f);
+        Vec3d look = player.getRotationVector();
+
+        // The cache is server-side only: the client and integrated server threads both
+        // resolve here, and the map isn't safe to share between them
+        if (world.isClient()) {
+            return new LookTarget(player, time, range, eye, look);
+        }
+
+        LookTarget cached = LAST_LOOKUP.get(player);
+        if (cached != null && cached.tick == time && cached.range == range
+            && cached.eye.equals(eye) && cached.look.equals(look)) {
+            return cached;
+        }
+
+        LookTarget target = new LookTarget(player, time, range, eye, look);
+        LAST_LOOKUP.put(player, target);
+        return target;
+    }
+
+    /**
+     * The result of one lookup. The block hit is computed up front; entity results are computed on first use.
+     */
+    public static final class LookTarget {
+        private final PlayerEntity player;
+        private final long tick;
+        private final double range;
+        private final Vec3d eye;
+        private final Vec3d look;
+        private final Vec3d end;
+        private final BlockHitResult blockHit;
+        private final double blockDistSq;
+
+        // Lazily filled from a single broad-phase query
+        private List<Entity> candidates;
+        private EntityHitResult entityHit;
+        private boolean entityHitResolved;
+
+        private LookTarget(PlayerEntity player, long tick, double range, Vec3d eye, Vec3d look) {
+            this.player = player;
+            this.tick = tick;
+            this.range = range;
+            this.eye = eye;
+            this.look = look;
+            this.end = eye.add(look.multiply(range));
+            this.blockHit = player.getWorld().raycast(new RaycastContext(
+                eye, end, RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.NONE, player));
+            this.blockDistSq = blockHit.getType() == HitResult.Type.MISS
+                ? Double.MAX_VALUE
+                : eye.squaredDistanceTo(blockHit.getPos());
+        }
+
+        public Vec3d eye() {
+            return eye;
+        }
+
+        public Vec3d look() {
+            return look;
+        }
+
+        /**
+         * The point at full range along the look direction.
+         */
+        public Vec3d end() {
+            return end;
+        }
+
+        /**
+         * First solid block along the look ray (type MISS if none within range).
+         */
+        public BlockHitResult blockHit() {
+            return blockHit;
+        }
+
+        /**
+         * Closest attackable entity whose (slightly padded) box the look ray passes
+         * through in front of any block, or null.
+         */
+        public EntityHitResult entityHit() {
+            if (!entityHitResolved) {
+                entityHitResolved = true;
+                double closestDistSq = blockDistSq;
+                for (Entity entity : candidates()) {
+                    if (!entity.isAttackable()) continue;
+
+                    Optional<Vec3d> hit = entity.getBoundingBox().expand(RAY_MARGIN).raycast(eye, end);
+                    if (hit.isPresent()) {
+                        double distSq = eye.squaredDistanceTo(hit.get());
+                        if (distSq < closestDistSq) {
+                            closestDistSq = distSq;
+                            entityHit = new EntityHitResult(entity, hit.get());
+                        }
+                    }
+                }
+            }
+            return entityHit;
+        }
+
+        /**
+         * The living entity the player is aiming at: the one under the crosshair if any,
+         * otherwise the best-aligned one within the cone {@code dot > minCos}.
+         * Only the chosen cone candidate is checked for blocks in the way.
+         */
+        public LivingEntity livingTarget(double minCos) {
+            EntityHitResult hit = entityHit();
+            if (hit != null && isLivingTarget(hit.getEntity())) {
+                return (LivingEntity) hit.getEntity();
+            }
+
+            LivingEntity best = null;
+            double bestCos = minCos;
+            double maxDistSq = range * range;
+            for (Entity entity : candidates()) {
+                if (!isLivingTarget(entity)) continue;
+
+                Vec3d to = entity.getPos().subtract(eye);
+                double along = to.dotProduct(look);
+                if (along <= 0) continue;
+
+                double distSq = to.lengthSquared();
+                if (distSq > maxDistSq) continue;
+
+                // cos = along / |to|, compared without normalizing the vector
+                double cos = along / Math.sqrt(distSq);
+                if (cos > bestCos) {
+                    bestCos = cos;
+                    best = (LivingEntity) entity;
+                }
+            }
+
+            if (best != null && !hasLineOfSight(best)) {
+                return null;
+            }
+            return best;
+        }
+
+        private boolean isLivingTarget(Entity entity) {
+            return entity instanceof LivingEntity living
+                && living.isAttackable()
+                && !(entity instanceof ShadowCloneEntity);
+        }
+
+        private boolean hasLineOfSight(Entity entity) {
+            Vec3d center = entity.getBoundingBox().getCenter();
+            BlockHitResult hit = player.getWorld().raycast(new RaycastContext(
+                eye, center, RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.NONE, player));
+            return hit.getType() == HitResult.Type.MISS;
+        }
+
+        /**
+         * The single broad-phase query: everything alive along the look direction.
+         */
+        private List<Entity> candidates() {
+            if (candidates == null) {
+                Box searchBox = player.getBoundingBox().stretch(look.multiply(range)).expand(1.0);
+                candidates = player.getWorld().getOtherEntities(player, searchBox,
+                    entity -> entity.isAlive() && !entity.isSpectator());
+            }
+            return candidates;
+        }
+    }
+}
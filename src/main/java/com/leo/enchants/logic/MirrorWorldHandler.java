@@ -1,6 +1,8 @@
 package com.leo.enchants.logic;
 
 import com.leo.enchants.LeoEnchantsMod;
+import com.leo.enchants.attachment.ModAttachments;
+import com.leo.enchants.attachment.PlayerAbilityState;
 import com.leo.enchants.entity.MirrorBarrierEntity;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -12,11 +14,15 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.text.Text;
+import net.minecraft.util.Uuids;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -46,14 +52,9 @@ public class MirrorWorldHandler {
     private static final int VERTICAL_RANGE = 30;
     
     // Active mirror worlds by dimension
+    // (player inventory snapshots live in each player's PlayerAbilityState)
     private static final Map<World, List<MirrorWorld>> activeMirrorWorlds = new ConcurrentHashMap<>();
     
-    // Player inventory snapshots when entering mirror worlds
-    private static final Map<UUID, InventorySnapshot> playerInventorySnapshots = new ConcurrentHashMap<>();
-    
-    // Players currently in mirror worlds
-    private static final Map<UUID, UUID> playersInMirrorWorlds = new ConcurrentHashMap<>();
-    
     /**
      * Represents a single active mirror world
      */
@@ -115,16 +116,26 @@ public class MirrorWorldHandler {
     /**
      * Snapshot of player inventory using slot-based access
      * ALL items are saved including Mirror Barrier items (the used one is already consumed before snapshot)
+     * Persisted with the player so a relog during a mirror world cannot keep mirrored items.
      */
     public static class InventorySnapshot {
-        public final UUID playerId;
+        public static final Codec<InventorySnapshot> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Uuids.CODEC.fieldOf("mirror_world_id").forGetter(snapshot -> snapshot.mirrorWorldId),
+            Codec.unboundedMap(Codec.STRING.xmap(Integer::parseInt, String::valueOf), ItemStack.CODEC)
+                .fieldOf("inventory").forGetter(snapshot -> snapshot.inventoryContents)
+        ).apply(instance, InventorySnapshot::new));
+        
         public final UUID mirrorWorldId;
         public final Map<Integer, ItemStack> inventoryContents;
         
         private static final int INVENTORY_SIZE = 41;
         
+        private InventorySnapshot(UUID mirrorWorldId, Map<Integer, ItemStack> inventoryContents) {
+            this.mirrorWorldId = mirrorWorldId;
+            this.inventoryContents = new HashMap<>(inventoryContents);
+        }
+        
         public InventorySnapshot(ServerPlayerEntity player, UUID mirrorWorldId) {
-            this.playerId = player.getUuid();
             this.mirrorWorldId = mirrorWorldId;
             this.inventoryContents = new HashMap<>();
             
@@ -158,7 +169,8 @@ public class MirrorWorldHandler {
     }
     
     public static boolean isInMirrorWorld(ServerPlayerEntity player) {
-        return playersInMirrorWorlds.containsKey(player.getUuid());
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        return state != null && state.mirrorSnapshot != null;
     }
     
     public static boolean mirrorWorldExists(UUID mirrorWorldId) {
@@ -263,9 +275,7 @@ public class MirrorWorldHandler {
     }
     
     private static void snapshotPlayerInventory(ServerPlayerEntity player, UUID mirrorWorldId) {
-        InventorySnapshot snapshot = new InventorySnapshot(player, mirrorWorldId);
-        playerInventorySnapshots.put(player.getUuid(), snapshot);
-        playersInMirrorWorlds.put(player.getUuid(), mirrorWorldId);
+        ModAttachments.get(player).mirrorSnapshot = new InventorySnapshot(player, mirrorWorldId);
         
         // Action bar message
         player.sendMessage(Text.literal("§b[Mirror Barrier] §7Inventory recorded"), true);
@@ -281,8 +291,7 @@ public class MirrorWorldHandler {
         mirrorWorld.affectedPlayers.remove(playerId);
         
         // Restore inventory
-        InventorySnapshot invSnapshot = playerInventorySnapshots.remove(playerId);
-        playersInMirrorWorlds.remove(playerId);
+        InventorySnapshot invSnapshot = takeSnapshot(player);
         
         if (invSnapshot != null) {
             invSnapshot.restore(player);
@@ -345,16 +354,17 @@ public class MirrorWorldHandler {
         }
         
         // Restore player inventories for players still in the zone
+        // (offline players are restored when they rejoin, see onPlayerJoin)
         for (UUID playerId : mirrorWorld.affectedPlayers) {
-            InventorySnapshot invSnapshot = playerInventorySnapshots.remove(playerId);
-            playersInMirrorWorlds.remove(playerId);
+            ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(playerId);
+            if (player == null) {
+                continue;
+            }
             
+            InventorySnapshot invSnapshot = takeSnapshot(player);
             if (invSnapshot != null) {
-                ServerPlayerEntity player = world.getServer().getPlayerManager().getPlayer(playerId);
-                if (player != null) {
-                    invSnapshot.restore(player);
-                    player.sendMessage(Text.literal("§b[Mirror Barrier] §7Mirror collapsed - inventory restored"), true);
-                }
+                invSnapshot.restore(player);
+                player.sendMessage(Text.literal("§b[Mirror Barrier] §7Mirror collapsed - inventory restored"), true);
             }
         }
         
@@ -434,7 +444,7 @@ public class MirrorWorldHandler {
             // Track new players entering the mirror zone
             for (ServerPlayerEntity player : world.getPlayers()) {
                 if (mirrorWorld.isInRange(player.getPos()) && !mirrorWorld.affectedPlayers.contains(player.getUuid())) {
-                    if (!playersInMirrorWorlds.containsKey(player.getUuid())) {
+                    if (!isInMirrorWorld(player)) {
                         snapshotPlayerInventory(player, mirrorWorld.id);
                         mirrorWorld.affectedPlayers.add(player.getUuid());
                         player.sendMessage(Text.literal("§b[Mirror Barrier] §7Entered mirror world - §e" + 
@@ -531,8 +541,35 @@ public class MirrorWorldHandler {
             }
         }
         activeMirrorWorlds.clear();
-        playerInventorySnapshots.clear();
-        playersInMirrorWorlds.clear();
+    }
+    
+    /**
+     * Restore a rejoining player whose mirror world collapsed while they were offline.
+     */
+    public static void onPlayerJoin(ServerPlayerEntity player) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        if (state == null || state.mirrorSnapshot == null) {
+            return;
+        }
+        
+        if (!mirrorWorldExists(state.mirrorSnapshot.mirrorWorldId)) {
+            InventorySnapshot invSnapshot = takeSnapshot(player);
+            invSnapshot.restore(player);
+            player.sendMessage(Text.literal("§b[Mirror Barrier] §7Mirror collapsed - inventory restored"), true);
+        }
+    }
+    
+    /**
+     * Remove and return the player's inventory snapshot, or null if they have none.
+     */
+    private static InventorySnapshot takeSnapshot(ServerPlayerEntity player) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        if (state == null) {
+            return null;
+        }
+        InventorySnapshot snapshot = state.mirrorSnapshot;
+        state.mirrorSnapshot = null;
+        return snapshot;
     }
     
     public static MirrorWorld getMirrorWorldAt(World world, BlockPos pos) {
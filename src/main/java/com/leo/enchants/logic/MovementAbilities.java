@@ -0,0 +1,232 @@
+package com.leo.enchants.logic;
+
+import com.leo.enchants.LeoEnchantsMod;
+import com.leo.enchants.attachment.ModAttachments;
+import com.leo.enchants.attachment.PlayerAbilityState;
+import net.minecraft.component.DataComponentTypes;
+import net.minecraft.component.type.ItemEnchantmentsComponent;
+import net.minecraft.entity.EquipmentSlot;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.Identifier;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Double Jump and Strafe movement, shared by client prediction and the server.
+ *
+ * The client applies both right away and sends its intent as one input byte
+ * (strafe keys plus a double jump bit). The server checks it against the player's
+ * boots, allows one double jump per air time and a few inputs per tick, and applies
+ * the same velocity to its own copy of the player, so its movement checks see the
+ * speed the client really has. Fall damage immunity from a double jump is granted
+ * here, on the player's own world clock.
+ */
+public final class MovementAbilities {
+
+    private static final Identifier DOUBLE_JUMP_ID = Identifier.of(LeoEnchantsMod.MOD_ID, "double_jump");
+    private static final Identifier STRAFE_ID = Identifier.of(LeoEnchantsMod.MOD_ID, "strafe");
+
+    // Input bits
+    public static final byte INPUT_FORWARD = 1;
+    public static final byte INPUT_BACK = 1 << 1;
+    public static final byte INPUT_LEFT = 1 << 2;
+    public static final byte INPUT_RIGHT = 1 << 3;
+    public static final byte INPUT_DOUBLE_JUMP = 1 << 4;
+    public static final byte STRAFE_INPUT_MASK = INPUT_FORWARD | INPUT_BACK | INPUT_LEFT | INPUT_RIGHT;
+
+    // Air control speed - how fast player can change direction in air
+    private static final double AIR_CONTROL_SPEED = 0.15;
+    // Maximum horizontal speed
+    private static final double MAX_HORIZONTAL_SPEED = 0.5;
+
+    // Inputs acted on per player per tick; a client sends at most one.
+    // Extra inputs are merged: the last strafe keys win and a double jump waits for the next tick
+    private static final int MAX_INPUTS_PER_TICK = 2;
+
+    // Minimum ticks between two double jumps, on top of one per air time
+    private static final int DOUBLE_JUMP_MIN_INTERVAL = 10;
+
+    private MovementAbilities() {}
+
+    /**
+     * Velocity after a double jump.
+     * @param level Enchantment level (1 = normal, 2 = horizontal boost)
+     */
+    public static Vec3d doubleJumpVelocity(Vec3d currentVelocity, Vec3d lookDirection, int level) {
+        if (level >= 2) {
+            // Level 2: Slightly less vertical, but boost horizontal in look direction
+            double horizontalBoost = 0.6;
+            return new Vec3d(
+                currentVelocity.x + lookDirection.x * horizontalBoost,
+                0.4,
+                currentVelocity.z + lookDirection.z * horizontalBoost
+            );
+        }
+        // Level 1: Normal double jump (mostly vertical)
+        return new Vec3d(currentVelocity.x, 0.5, currentVelocity.z);
+    }
+
+    /**
+     * Velocity after one tick of air control, or the current velocity if no strafe key is held.
+     */
+    public static Vec3d strafeVelocity(Vec3d currentVelocity, float yaw, byte input) {
+        // Calculate forward and right vectors based on player's yaw
+        double yawRad = Math.toRadians(yaw);
+        double forwardX = -Math.sin(yawRad);
+        double forwardZ = Math.cos(yawRad);
+        double rightX = Math.cos(yawRad);
+        double rightZ = Math.sin(yawRad);
+
+        // Build movement vector from input
+        double moveX = 0;
+        double moveZ = 0;
+        if ((input & INPUT_FORWARD) != 0) {
+            moveX += forwardX;
+            moveZ += forwardZ;
+        }
+        if ((input & INPUT_BACK) != 0) {
+            moveX -= forwardX;
+            moveZ -= forwardZ;
+        }
+        if ((input & INPUT_LEFT) != 0) {
+            moveX += rightX;
+            moveZ += rightZ;
+        }
+        if ((input & INPUT_RIGHT) != 0) {
+            moveX -= rightX;
+            moveZ -= rightZ;
+        }
+
+        // Normalize movement vector (opposite keys cancel out)
+        double length = Math.sqrt(moveX * moveX + moveZ * moveZ);
+        if (length == 0) {
+            return currentVelocity;
+        }
+        moveX /= length;
+        moveZ /= length;
+
+        // Steer towards desired direction, clamping horizontal speed to prevent infinite acceleration
+        double newVelX = currentVelocity.x + moveX * AIR_CONTROL_SPEED;
+        double newVelZ = currentVelocity.z + moveZ * AIR_CONTROL_SPEED;
+        double horizontalSpeed = Math.sqrt(newVelX * newVelX + newVelZ * newVelZ);
+        if (horizontalSpeed > MAX_HORIZONTAL_SPEED) {
+            double scale = MAX_HORIZONTAL_SPEED / horizontalSpeed;
+            newVelX *= scale;
+            newVelZ *= scale;
+        }
+
+        // Keep vertical velocity unchanged
+        return new Vec3d(newVelX, currentVelocity.y, newVelZ);
+    }
+
+    /**
+     * Handle an input byte from the client.
+     */
+    public static void handleInput(ServerPlayerEntity player, byte input) {
+        PlayerAbilityState state = ModAttachments.get(player);
+        long currentTime = player.getWorld().getTime();
+
+        // Rate limit
+        if (currentTime != state.movementInputTime) {
+            state.movementInputTime = currentTime;
+            state.movementInputsThisTick = 0;
+        }
+        state.strafeInput = (byte) (input & STRAFE_INPUT_MASK);
+
+        if ((input & INPUT_DOUBLE_JUMP) != 0) {
+            if (++state.movementInputsThisTick > MAX_INPUTS_PER_TICK) {
+                state.pendingDoubleJump = true;
+            } else {
+                tryDoubleJump(player, state, currentTime);
+            }
+        }
+    }
+
+    /**
+     * Re-arm double jump when the server accepts a move that ends on the ground, so a landing
+     * between two server ticks still counts.
+     */
+    public static void onMove(ServerPlayerEntity player) {
+        if (player.isOnGround()) {
+            PlayerAbilityState state = ModAttachments.getIfPresent(player);
+            if (state != null) {
+                state.doubleJumpAvailable = true;
+            }
+        }
+    }
+
+    /**
+     * Run a double jump held back by the input limit, apply held strafe keys to the server's
+     * copy of the player and re-arm double jump on the ground.
+     * Should be called every server tick for each player.
+     */
+    public static void tick(ServerPlayerEntity player) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        if (state == null) {
+            return;
+        }
+
+        if (state.pendingDoubleJump) {
+            state.pendingDoubleJump = false;
+            tryDoubleJump(player, state, player.getWorld().getTime());
+        }
+
+        if (player.isOnGround()) {
+            state.doubleJumpAvailable = true;
+            return;
+        }
+
+        if (state.strafeInput != 0 && hasStrafe(player)) {
+            player.setVelocity(strafeVelocity(player.getVelocity(), player.getYaw(), state.strafeInput));
+        }
+    }
+
+    private static void tryDoubleJump(ServerPlayerEntity player, PlayerAbilityState state, long currentTime) {
+        int level = getDoubleJumpLevel(player);
+        if (level <= 0 || !state.doubleJumpAvailable || player.isOnGround()
+                || currentTime < state.lastDoubleJumpTime + DOUBLE_JUMP_MIN_INTERVAL) {
+            LeoEnchantsMod.LOGGER.debug("Rejected double jump from {}", player.getName().getString());
+            return;
+        }
+
+        state.doubleJumpAvailable = false;
+        state.lastDoubleJumpTime = currentTime;
+        player.setVelocity(doubleJumpVelocity(player.getVelocity(), player.getRotationVector(), level));
+        FallDamageImmunity.grantImmunity(player, currentTime);
+    }
+
+    /**
+     * Get the level of double jump enchantment on player's boots
+     * Returns 0 if not enchanted
+     */
+    public static int getDoubleJumpLevel(PlayerEntity player) {
+        return getBootsEnchantmentLevel(player, DOUBLE_JUMP_ID);
+    }
+
+    /**
+     * Check if player's boots have the strafe enchantment
+     */
+    public static boolean hasStrafe(PlayerEntity player) {
+        return getBootsEnchantmentLevel(player, STRAFE_ID) > 0;
+    }
+
+    private static int getBootsEnchantmentLevel(PlayerEntity player, Identifier id) {
+        ItemStack boots = player.getEquippedStack(EquipmentSlot.FEET);
+        if (boots.isEmpty()) {
+            return 0;
+        }
+
+        ItemEnchantmentsComponent enchantments = boots.get(DataComponentTypes.ENCHANTMENTS);
+        if (enchantments == null) {
+            return 0;
+        }
+
+        for (var entry : enchantments.getEnchantmentEntries()) {
+            if (entry.getKey().matchesId(id)) {
+                return entry.getIntValue();
+            }
+        }
+        return 0;
+    }
+}
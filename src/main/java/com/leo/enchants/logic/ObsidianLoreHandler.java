@@ -7,7 +7,6 @@ import com.leo.enchants.entity.ObsidianStrikeEntity;
 import com.leo.enchants.item.ModItems;
 import com.leo.enchants.item.ObsidianLoreItem;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
-import net.fabricmc.fabric.api.event.player.UseItemCallback;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.item.ItemStack;
@@ -20,7 +19,6 @@ import net.minecraft.util.hit.EntityHitResult;
 import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Vec3d;
-import net.minecraft.world.RaycastContext;
 import net.minecraft.world.World;
 
 /**
@@ -59,29 +57,28 @@ public class ObsidianLoreHandler {
             return ActionResult.PASS;
         });
         
-        // Handle right-click in air (for raycast-based targeting)
-        UseItemCallback.EVENT.register((player, world, hand) -> {
-            ItemStack stack = player.getStackInHand(hand);
-            
-            if (stack.isOf(ModItems.OBSIDIAN_LORE)) {
-                // Perform raycast to find target
-                HitResult hitResult = raycast(player, MAX_RAYCAST_DISTANCE);
-                
-                if (hitResult.getType() != HitResult.Type.MISS) {
-                    return handleUse(player, world, hand, stack, hitResult);
-                } else {
-                    // No target found
-                    player.sendMessage(Text.literal("§5[Obsidian Mastery] §7No target in range"), true);
-                    return ActionResult.FAIL;
-                }
-            }
-            
-            return ActionResult.PASS;
-        });
+        // Right-click in air is routed through ItemUseDispatcher -> onUseItem
         
         LeoEnchantsMod.LOGGER.info("Registered Obsidian Lore event handlers");
     }
     
+    /**
+     * Handle right-click in air (for raycast-based targeting).
+     * Called by ItemUseDispatcher when the player uses an Obsidian Lore item.
+     */
+    public static ActionResult onUseItem(PlayerEntity player, World world, Hand hand, ItemStack stack) {
+        // Perform raycast to find target
+        HitResult hitResult = raycast(player, MAX_RAYCAST_DISTANCE);
+        
+        if (hitResult.getType() != HitResult.Type.MISS) {
+            return handleUse(player, world, hand, stack, hitResult);
+        } else {
+            // No target found
+            player.sendMessage(Text.literal("§5[Obsidian Mastery] §7No target in range"), true);
+            return ActionResult.FAIL;
+        }
+    }
+    
     /**
      * Handle the use action for the Obsidian Lore item
      */
@@ -224,68 +221,15 @@ public class ObsidianLoreHandler {
      * Perform a raycast from the player's view
      */
     private static HitResult raycast(PlayerEntity player, double maxDistance) {
-        Vec3d start = player.getEyePos();
-        Vec3d direction = player.getRotationVector();
-        Vec3d end = start.add(direction.multiply(maxDistance));
-        
-        // First check for entity hits
-        EntityHitResult entityHit = raycastEntities(player, start, end);
+        LookTargetResolver.LookTarget look = LookTargetResolver.resolve(player, maxDistance);
         
-        // Then check for block hits
-        BlockHitResult blockHit = player.getWorld().raycast(new RaycastContext(
-            start, end,
-            RaycastContext.ShapeType.OUTLINE,
-            RaycastContext.FluidHandling.NONE,
-            player
-        ));
-        
-        // Return the closer hit
+        // Entity hits only count in front of the first block
+        EntityHitResult entityHit = look.entityHit();
         if (entityHit != null) {
-            double entityDist = start.squaredDistanceTo(entityHit.getPos());
-            double blockDist = start.squaredDistanceTo(blockHit.getPos());
-            
-            if (entityDist < blockDist) {
-                return entityHit;
-            }
-        }
-        
-        return blockHit;
-    }
-    
-    /**
-     * Raycast for entities
-     */
-    private static EntityHitResult raycastEntities(PlayerEntity player, Vec3d start, Vec3d end) {
-        double closestDistance = Double.MAX_VALUE;
-        Entity closestEntity = null;
-        Vec3d closestHitPos = null;
-        
-        for (Entity entity : player.getWorld().getOtherEntities(player, 
-                player.getBoundingBox().expand(MAX_RAYCAST_DISTANCE))) {
-            
-            if (!entity.isAttackable()) continue;
-            
-            // Check if the ray intersects this entity
-            var box = entity.getBoundingBox().expand(0.3);
-            var optional = box.raycast(start, end);
-            
-            if (optional.isPresent()) {
-                Vec3d hitPos = optional.get();
-                double distance = start.squaredDistanceTo(hitPos);
-                
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    closestEntity = entity;
-                    closestHitPos = hitPos;
-                }
-            }
-        }
-        
-        if (closestEntity != null) {
-            return new EntityHitResult(closestEntity, closestHitPos);
+            return entityHit;
         }
         
-        return null;
+        return look.blockHit();
     }
 }
 
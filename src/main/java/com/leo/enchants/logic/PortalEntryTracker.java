@@ -0,0 +1,104 @@
+package com.leo.enchants.logic;
+
+import com.leo.enchants.LeoEnchantsMod;
+import com.leo.enchants.entity.SpaceTravelPortalEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Detects players walking into Space Travel portals.
+ *
+ * Open portals are indexed per world by chunk. Once per world tick each player only
+ * looks at portals in its own and neighboring chunks and tests them against the
+ * portal's real shape ({@link SpaceTravelPortalEntity#isInside}). A portal nobody is
+ * near costs nothing, however many are open.
+ */
+public final class PortalEntryTracker {
+
+    // Drop closed or removed portals from the index this often
+    private static final int CLEANUP_INTERVAL = 20;
+
+    // World -> packed chunk pos -> open portals in that chunk
+    private static final Map<ServerWorld, Long2ObjectOpenHashMap<List<SpaceTravelPortalEntity>>> PORTALS = new WeakHashMap<>();
+
+    private PortalEntryTracker() {}
+
+    public static void register() {
+        LeoEnchantsMod.LOGGER.info("Registering Portal Entry Tracker for " + LeoEnchantsMod.MOD_ID);
+        ServerTickEvents.END_WORLD_TICK.register(PortalEntryTracker::tick);
+    }
+
+    /**
+     * Start watching an open portal for players stepping in.
+     */
+    public static void track(SpaceTravelPortalEntity portal) {
+        if (!(portal.getWorld() instanceof ServerWorld world)) {
+            return;
+        }
+        long chunk = ChunkPos.toLong(portal.getBlockX() >> 4, portal.getBlockZ() >> 4);
+        PORTALS.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>())
+            .computeIfAbsent(chunk, c -> new ArrayList<>())
+            .add(portal);
+    }
+
+    private static void tick(ServerWorld world) {
+        Long2ObjectOpenHashMap<List<SpaceTravelPortalEntity>> byChunk = PORTALS.get(world);
+        if (byChunk == null || byChunk.isEmpty()) {
+            return;
+        }
+
+        // Teleporting changes the world's player list, so collect entries first
+        List<ServerPlayerEntity> entering = new ArrayList<>();
+        List<SpaceTravelPortalEntity> portals = new ArrayList<>();
+
+        for (ServerPlayerEntity player : world.getPlayers()) {
+            if (player.isSpectator()) continue;
+
+            SpaceTravelPortalEntity portal = findPortal(byChunk, player);
+            if (portal != null && !portals.contains(portal)) {
+                entering.add(player);
+                portals.add(portal);
+            }
+        }
+
+        for (int i = 0; i < entering.size(); i++) {
+            SpaceTravelPortalEntity portal = portals.get(i);
+            SpaceTravelHandler.teleportThroughPortal(entering.get(i), portal);
+            portal.startClosing();
+        }
+
+        if (!portals.isEmpty() || world.getTime() % CLEANUP_INTERVAL == 0) {
+            byChunk.values().removeIf(list -> {
+                list.removeIf(portal -> portal.isRemoved() || portal.isClosing());
+                return list.isEmpty();
+            });
+        }
+    }
+
+    private static SpaceTravelPortalEntity findPortal(Long2ObjectOpenHashMap<List<SpaceTravelPortalEntity>> byChunk,
+                                                      ServerPlayerEntity player) {
+        int chunkX = player.getBlockX() >> 4;
+        int chunkZ = player.getBlockZ() >> 4;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                List<SpaceTravelPortalEntity> list = byChunk.get(ChunkPos.toLong(chunkX + dx, chunkZ + dz));
+                if (list == null) continue;
+
+                for (SpaceTravelPortalEntity portal : list) {
+                    if (!portal.isRemoved() && !portal.isClosing() && portal.isInside(player)) {
+                        return portal;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+}
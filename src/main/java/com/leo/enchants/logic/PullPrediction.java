@@ -0,0 +1,58 @@
+package com.leo.enchants.logic;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.network.ClientPlayerEntity;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * Client side of predicted Grab and Hookshot pulls.
+ * Follows the {@link PullTrajectory} the server sent, setting the local player's velocity
+ * every tick, so the pull is smooth however high the ping is.
+ * A pull never outlives the world it started in (portal, respawn into another dimension, relog).
+ */
+public class PullPrediction {
+    
+    private static PullTrajectory active;
+    private static int ticks;
+    private static ClientWorld world; // World the pull is followed in, set on its first tick
+    
+    /**
+     * Start following a pull (replacing any current one). An already finished trajectory just ends it.
+     */
+    public static void start(PullTrajectory trajectory) {
+        active = trajectory.isFinished(0) ? null : trajectory;
+        ticks = 0;
+        world = null;
+    }
+    
+    /**
+     * Drop any pull in progress (call on joining or leaving a server)
+     */
+    public static void reset() {
+        active = null;
+        ticks = 0;
+        world = null;
+    }
+    
+    /**
+     * Called every client tick to steer the player along the pull
+     */
+    public static void tick(MinecraftClient client) {
+        if (active == null) return;
+        
+        ClientPlayerEntity player = client.player;
+        if (player == null || (world != null && client.world != world)
+            || active.isFinished(ticks) || active.hasEscaped(ticks, player.getPos())) {
+            reset();
+            return;
+        }
+        world = client.world;
+        
+        Vec3d velocity = active.velocityAt(ticks, player.getPos());
+        if (velocity != null) {
+            player.setVelocity(velocity);
+        }
+        ticks++;
+    }
+}
@@ -0,0 +1,123 @@
+package com.leo.enchants.logic;
+
+import com.leo.enchants.network.ModNetworking;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.Vec3d;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Server side of predicted Grab and Hookshot pulls.
+ *
+ * A pull is sent to the client once as a {@link PullTrajectory}, which the client then follows
+ * on its own. Each tick the server only checks that the player is still near the path; the
+ * positions it sees lag the client's by the round trip, so anywhere along the last
+ * {@link #LAG_TICKS} ticks of the path counts. A Hookshot pull that drifts further than
+ * {@link #DRIFT_TOLERANCE} is restarted from where the player is. A Grab launch that drifts
+ * is left alone, since the player already has its velocity, unless they never left the
+ * start; then the launch is sent again the vanilla way.
+ */
+public final class PullSync {
+
+    // How far from the path the player may get before the server corrects them
+    private static final double DRIFT_TOLERANCE = 2.0;
+
+    // How many ticks behind the path the server's view of the player may be
+    private static final int LAG_TICKS = 20;
+
+    // Minimum ticks between two corrections of the same pull
+    private static final int CORRECTION_COOLDOWN_TICKS = 10;
+
+    // Pulls the server is watching
+    private static final Map<ServerPlayerEntity, ActivePull> ACTIVE = new WeakHashMap<>();
+
+    private PullSync() {}
+
+    private static final class ActivePull {
+        private final PullTrajectory trajectory;
+        private final long startTime;
+
+        private ActivePull(PullTrajectory trajectory, long startTime) {
+            this.trajectory = trajectory;
+            this.startTime = startTime;
+        }
+    }
+
+    /**
+     * Start (or replace) the player's pull and send it to their client.
+     */
+    public static void start(ServerPlayerEntity player, PullTrajectory trajectory) {
+        ACTIVE.put(player, new ActivePull(trajectory, player.getWorld().getTime()));
+        ServerPlayNetworking.send(player, new ModNetworking.PullStartPayload(trajectory));
+    }
+
+    /**
+     * End the player's pull, on the client too.
+     */
+    public static void stop(ServerPlayerEntity player) {
+        if (ACTIVE.remove(player) != null) {
+            ServerPlayNetworking.send(player, new ModNetworking.PullStartPayload(PullTrajectory.none()));
+        }
+    }
+
+    /**
+     * Check a pulled player against their path.
+     * Should be called every server tick for each player.
+     */
+    public static void tick(ServerPlayerEntity player) {
+        ActivePull active = ACTIVE.get(player);
+        if (active == null) {
+            return;
+        }
+
+        PullTrajectory trajectory = active.trajectory;
+        int elapsed = (int) (player.getWorld().getTime() - active.startTime);
+        Vec3d pos = player.getPos();
+
+        // Done: the client has stopped following the path as well
+        if (trajectory.isFinished(elapsed - LAG_TICKS)) {
+            ACTIVE.remove(player);
+            return;
+        }
+
+        // Let go of the hold: end it on the server too, so it stops granting fall immunity
+        if (trajectory.hasEscaped(elapsed, pos)) {
+            ACTIVE.remove(player);
+            HookshotHandler.cancelHold(player);
+            return;
+        }
+
+        if (elapsed < CORRECTION_COOLDOWN_TICKS || !hasDrifted(trajectory, elapsed, pos)) {
+            return;
+        }
+
+        if (trajectory.kind() == PullTrajectory.Kind.GRAB) {
+            // A launch in flight is the player's to finish (or cut short on terrain);
+            // only one the client never started gets resent
+            ACTIVE.remove(player);
+            double toleranceSq = DRIFT_TOLERANCE * DRIFT_TOLERANCE;
+            if (trajectory.positionAt(0).squaredDistanceTo(pos) <= toleranceSq) {
+                player.setVelocity(trajectory.launchVelocity());
+                player.velocityModified = true;
+            }
+            return;
+        }
+
+        start(player, trajectory.restartFrom(pos, elapsed));
+    }
+
+    /**
+     * Whether the player is off every point of the path they could have been on recently.
+     */
+    private static boolean hasDrifted(PullTrajectory trajectory, int elapsed, Vec3d pos) {
+        double toleranceSq = DRIFT_TOLERANCE * DRIFT_TOLERANCE;
+        for (int tick = Math.max(0, elapsed - LAG_TICKS); tick <= elapsed; tick++) {
+            if (trajectory.positionAt(tick).squaredDistanceTo(pos) <= toleranceSq) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
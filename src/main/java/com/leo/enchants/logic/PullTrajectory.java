@@ -0,0 +1,193 @@
+package com.leo.enchants.logic;
+
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ * The path of a Grab launch or Hookshot pull, computed the same way on server and client.
+ *
+ * The server sends it once when the pull starts ({@link PullSync}); the client then drives its
+ * own velocity along it every tick ({@link PullPrediction}), so no velocity packets are needed
+ * while the player follows it.
+ * - Grab: one launch from chest height toward the bobber, then a free ballistic arc
+ * - Hookshot: a pull toward the hold position that speeds up with distance, then a hold there
+ */
+public final class PullTrajectory {
+
+    public enum Kind {
+        GRAB,
+        HOOKSHOT
+    }
+
+    public static final PacketCodec<RegistryByteBuf, PullTrajectory> PACKET_CODEC = PacketCodec.tuple(
+        PacketCodecs.indexed(i -> Kind.values()[i], Kind::ordinal), trajectory -> trajectory.kind,
+        Vec3d.PACKET_CODEC, trajectory -> trajectory.start,
+        Vec3d.PACKET_CODEC, trajectory -> trajectory.target,
+        PacketCodecs.VAR_INT, trajectory -> trajectory.pullTicks,
+        PacketCodecs.VAR_INT, trajectory -> trajectory.holdTicks,
+        PullTrajectory::new
+    );
+
+    // Grab launches from about chest height of a standing player
+    private static final double LAUNCH_HEIGHT = 0.81;
+
+    // Hookshot: fastest pull speed, and how far a held player can get before letting go
+    private static final double MAX_PULL_SPEED = 4.0;
+    private static final double HOLD_ESCAPE_DISTANCE = 3.0;
+
+    private final Kind kind;
+    private final Vec3d start;      // Player position when the pull started
+    private final Vec3d target;     // Grab: the bobber. Hookshot: the hold position
+    private final int pullTicks;    // Grab: how long the arc is followed. Hookshot: pull phase length
+    private final int holdTicks;    // Hookshot hold phase length (0 for Grab)
+    private final Vec3d[] path;     // Expected player position after each tick of the pull phase
+
+    public PullTrajectory(Kind kind, Vec3d start, Vec3d target, int pullTicks, int holdTicks) {
+        this.kind = kind;
+        this.start = start;
+        this.target = target;
+        this.pullTicks = Math.max(0, pullTicks);
+        this.holdTicks = Math.max(0, holdTicks);
+        this.path = kind == Kind.GRAB ? buildGrabArc() : buildHookshotPath();
+    }
+
+    /**
+     * A Grab launch from a player at {@code start} toward the bobber, with the arc followed for {@code ticks}.
+     */
+    public static PullTrajectory grab(Vec3d start, Vec3d bobberPos, int ticks) {
+        return new PullTrajectory(Kind.GRAB, start, bobberPos, ticks, 0);
+    }
+
+    /**
+     * A Hookshot pull from a player at {@code start} to the hold position, then the hold.
+     */
+    public static PullTrajectory hookshot(Vec3d start, Vec3d holdPosition, int pullTicks, int holdTicks) {
+        return new PullTrajectory(Kind.HOOKSHOT, start, holdPosition, pullTicks, holdTicks);
+    }
+
+    /**
+     * A trajectory that ends any pull in progress.
+     */
+    public static PullTrajectory none() {
+        return new PullTrajectory(Kind.HOOKSHOT, Vec3d.ZERO, Vec3d.ZERO, 0, 0);
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    public Vec3d target() {
+        return target;
+    }
+
+    public int pullTicks() {
+        return pullTicks;
+    }
+
+    public int holdTicks() {
+        return holdTicks;
+    }
+
+    /**
+     * Whether the pull is over after {@code tick} ticks.
+     */
+    public boolean isFinished(int tick) {
+        return tick >= pullTicks + holdTicks;
+    }
+
+    /**
+     * Where the player should be after {@code tick} ticks.
+     */
+    public Vec3d positionAt(int tick) {
+        if (tick >= path.length) {
+            // Hookshot holds at the target; Grab's arc isn't tracked any further
+            return kind == Kind.HOOKSHOT ? target : path[path.length - 1];
+        }
+        return path[Math.max(0, tick)];
+    }
+
+    /**
+     * The velocity to give a player at {@code current} after {@code tick} ticks, or null to leave it alone.
+     */
+    public Vec3d velocityAt(int tick, Vec3d current) {
+        if (kind == Kind.GRAB) {
+            // Launch once, then let normal physics carry the arc
+            return tick == 0 ? launchVelocity() : null;
+        }
+
+        // Steer onto the next point of the path (the hold position once there)
+        Vec3d step = positionAt(tick + 1).subtract(current);
+        double length = step.length();
+        return length > MAX_PULL_SPEED ? step.multiply(MAX_PULL_SPEED / length) : step;
+    }
+
+    /**
+     * Whether a held player at {@code current} has pulled away from the hold and should be let go.
+     */
+    public boolean hasEscaped(int tick, Vec3d current) {
+        return kind == Kind.HOOKSHOT && tick >= pullTicks && current.distanceTo(target) > HOLD_ESCAPE_DISTANCE;
+    }
+
+    /**
+     * The rest of this pull, starting over from {@code current} after {@code elapsed} ticks.
+     */
+    public PullTrajectory restartFrom(Vec3d current, int elapsed) {
+        int pullLeft = Math.max(0, pullTicks - elapsed);
+        int holdLeft = holdTicks - Math.max(0, elapsed - pullTicks);
+        return new PullTrajectory(kind, current, target, pullLeft, holdLeft);
+    }
+
+    /**
+     * Grab's launch velocity from where the pull started.
+     */
+    public Vec3d launchVelocity() {
+        return GrabHandler.launchVelocity(start.add(0, LAUNCH_HEIGHT, 0), target);
+    }
+
+    /**
+     * Free flight after the launch: move, then gravity and air drag, as vanilla does for players.
+     */
+    private Vec3d[] buildGrabArc() {
+        Vec3d[] points = new Vec3d[pullTicks + 1];
+        Vec3d velocity = launchVelocity();
+        points[0] = start;
+        for (int i = 1; i < points.length; i++) {
+            points[i] = points[i - 1].add(velocity);
+            velocity = new Vec3d(velocity.x * 0.91, (velocity.y - 0.08) * 0.98, velocity.z * 0.91);
+        }
+        return points;
+    }
+
+    /**
+     * Straight toward the hold position, faster the further away it is, then stay there.
+     */
+    private Vec3d[] buildHookshotPath() {
+        Vec3d[] points = new Vec3d[pullTicks + 1];
+        points[0] = start;
+        for (int i = 1; i < points.length; i++) {
+            Vec3d from = points[i - 1];
+            double distance = from.distanceTo(target);
+            double speed = hookshotPullSpeed(distance);
+            points[i] = speed >= distance ? target : from.add(target.subtract(from).multiply(speed / distance));
+        }
+        return points;
+    }
+
+    /**
+     * Strong pull - scale with distance. Very close just snaps onto the target.
+     */
+    private static double hookshotPullSpeed(double distance) {
+        if (distance > 10.0) {
+            return 4.0; // Very fast when far
+        } else if (distance > 5.0) {
+            return 3.5; // Fast when medium-far
+        } else if (distance > 2.0) {
+            return 2.5; // Medium when closer
+        } else if (distance > 0.5) {
+            return 1.5; // Slower when very close
+        }
+        return distance;
+    }
+}
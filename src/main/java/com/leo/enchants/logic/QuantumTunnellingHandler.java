@@ -1,6 +1,9 @@
 package com.leo.enchants.logic;
 
 import com.leo.enchants.LeoEnchantsMod;
+import com.leo.enchants.attachment.ModAttachments;
+import com.leo.enchants.attachment.PlayerAbilityState;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import net.minecraft.block.BlockState;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.ItemEnchantmentsComponent;
@@ -16,9 +19,9 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
 
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.UUID;
+import java.util.WeakHashMap;
 
 /**
  * Handles the Quantum Tunnelling chestplate enchantment.
@@ -31,23 +34,23 @@ public class QuantumTunnellingHandler {
     private static final Identifier QUANTUM_TUNNELLING_ID = Identifier.of(LeoEnchantsMod.MOD_ID, "quantum_tunnelling");
     private static final int TUNNEL_DISTANCE = 50;
     private static final int COOLDOWN_TICKS = 40; // 2 second cooldown
+    private static final int MAX_FAILED_SCANS = 1024; // per world and facing
 
-    // Track cooldowns per player
-    private static final Map<UUID, Long> cooldowns = new HashMap<>();
+    // Scans that found no exit: world -> facing -> packed player pos -> section signature at the time
+    private static final Map<ServerWorld, EnumMap<Direction, Long2LongOpenHashMap>> FAILED_SCANS = new WeakHashMap<>();
 
     /**
      * Called every server tick for each player to check for quantum tunnelling
      */
     public static void tick(ServerPlayerEntity player, long currentTime) {
-        UUID playerId = player.getUuid();
-
         // Check if player has the enchantment
         if (!hasQuantumTunnelling(player)) {
             return;
         }
 
         // Check if on cooldown
-        if (currentTime < cooldowns.getOrDefault(playerId, 0L)) {
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        if (state != null && currentTime < state.quantumCooldownEndTime) {
             return;
         }
 
@@ -153,36 +156,109 @@ public class QuantumTunnellingHandler {
         BlockPos playerPos = player.getBlockPos();
         ServerWorld world = (ServerWorld) player.getWorld();
         
-        // Scan through the wall to find the first safe position (up to TUNNEL_DISTANCE blocks)
-        // Start from 1 block ahead (we're already colliding with position 0)
-        BlockPos targetPos = null;
-        boolean passedThroughSolid = false;
+        // Skip the scan if it already failed here and nothing along the path has changed since
+        long key = playerPos.asLong();
+        long signature = scanSignature(world, playerPos, moveDirection);
+        Long2LongOpenHashMap failed = FAILED_SCANS
+            .computeIfAbsent(world, w -> new EnumMap<>(Direction.class))
+            .computeIfAbsent(moveDirection, d -> new Long2LongOpenHashMap());
+        if (signature != 0 && failed.get(key) == signature) {
+            return;
+        }
         
-        for (int distance = 1; distance <= TUNNEL_DISTANCE; distance++) {
-            BlockPos checkPos = playerPos.offset(moveDirection, distance);
-            BlockPos headPos = checkPos.up();
-            
-            BlockState feetBlock = world.getBlockState(checkPos);
-            BlockState headBlock = world.getBlockState(headPos);
-            
-            // Check collision shape - empty means passable
-            boolean feetPassable = feetBlock.getCollisionShape(world, checkPos).isEmpty();
-            boolean headPassable = headBlock.getCollisionShape(world, headPos).isEmpty();
-            
-            if (!feetPassable || !headPassable) {
-                // We're inside the wall (has collision)
-                passedThroughSolid = true;
-            } else if (passedThroughSolid) {
-                // We've passed through solid blocks and found air - this is our exit point!
-                targetPos = checkPos;
-                break;
+        int exitDistance = findExitDistance(world, playerPos, moveDirection);
+
+        // Only tunnel if we found a valid exit point after passing through solid blocks
+        if (exitDistance > 0) {
+            failed.remove(key);
+            performTunnel(player, playerPos.offset(moveDirection, exitDistance), moveDirection, currentTime);
+        } else if (signature != 0) {
+            if (failed.size() >= MAX_FAILED_SCANS) {
+                failed.clear();
             }
-            // If we haven't hit any solid yet, keep scanning (player might not be right against the wall)
+            failed.put(key, signature);
         }
+    }
 
-        // Only tunnel if we found a valid exit point after passing through solid blocks
-        if (targetPos != null) {
-            performTunnel(player, targetPos, moveDirection, currentTime);
+    /**
+     * Scan through the wall for the first spot (up to TUNNEL_DISTANCE blocks) where feet and head
+     * are both free, after passing through blocks with collision.
+     * @return the distance to that spot, or 0 if there is none
+     */
+    private static int findExitDistance(ServerWorld world, BlockPos playerPos, Direction direction) {
+        // Bit d set = something with collision d blocks ahead, at feet or head level
+        long blocked = scanRow(world, playerPos, direction, 0) | scanRow(world, playerPos, direction, 1);
+        if (blocked == 0) {
+            return 0;
+        }
+        
+        // If we haven't hit any solid yet, keep scanning (player might not be right against the wall)
+        long open = ~blocked & distanceMask(1, TUNNEL_DISTANCE) & (-1L << Long.numberOfTrailingZeros(blocked));
+        return open == 0 ? 0 : Long.numberOfTrailingZeros(open);
+    }
+
+    /**
+     * Bit mask of the blocked distances 1..TUNNEL_DISTANCE along one row of blocks.
+     * Start from 1 block ahead (we're already colliding with position 0).
+     */
+    private static long scanRow(ServerWorld world, BlockPos playerPos, Direction direction, int yOffset) {
+        RowScan scan = new RowScan(world);
+        
+        // Start on the face between distance 0 and 1, so distance d spans [d - 1, d) along the ray
+        double reached = VoxelTraversal.traverse(world,
+            playerPos.getX() + 0.5 + direction.getOffsetX() * 0.5,
+            playerPos.getY() + yOffset + 0.5,
+            playerPos.getZ() + 0.5 + direction.getOffsetZ() * 0.5,
+            direction.getOffsetX(), 0, direction.getOffsetZ(),
+            TUNNEL_DISTANCE, scan);
+        
+        // Nothing past an unloaded chunk is a valid exit
+        int unloadedFrom = (int) Math.round(reached) + 1;
+        if (unloadedFrom <= TUNNEL_DISTANCE) {
+            scan.blocked |= distanceMask(unloadedFrom, TUNNEL_DISTANCE);
+        }
+        return scan.blocked;
+    }
+
+    /**
+     * Fingerprint of the chunk sections the scan reads, or 0 if some aren't loaded.
+     */
+    private static long scanSignature(ServerWorld world, BlockPos playerPos, Direction direction) {
+        BlockPos first = playerPos.offset(direction, 1);
+        BlockPos last = playerPos.offset(direction, TUNNEL_DISTANCE);
+        return SectionVersions.signature(world,
+            Math.min(first.getX(), last.getX()), playerPos.getY(), Math.min(first.getZ(), last.getZ()),
+            Math.max(first.getX(), last.getX()), playerPos.getY() + 1, Math.max(first.getZ(), last.getZ()));
+    }
+
+    /**
+     * Bits {@code from} through {@code to}, inclusive.
+     */
+    private static long distanceMask(int from, int to) {
+        if (to < from) {
+            return 0;
+        }
+        return (-1L >>> (63 - to)) & (-1L << from);
+    }
+
+    /**
+     * Marks which distances along a row have collision. Uniform runs are checked once.
+     */
+    private static final class RowScan implements VoxelTraversal.Visitor {
+        private final ServerWorld world;
+        private long blocked;
+
+        private RowScan(ServerWorld world) {
+            this.world = world;
+        }
+
+        @Override
+        public boolean visit(BlockPos.Mutable pos, BlockState state, double tEnter, double tExit, boolean uniform) {
+            // Check collision shape - empty means passable
+            if (!state.getCollisionShape(world, pos).isEmpty()) {
+                blocked |= distanceMask((int) Math.round(tEnter) + 1, (int) Math.round(tExit));
+            }
+            return true;
         }
     }
 
@@ -271,7 +347,7 @@ public class QuantumTunnellingHandler {
         );
 
         // Set cooldown
-        cooldowns.put(player.getUuid(), currentTime + COOLDOWN_TICKS);
+        ModAttachments.get(player).quantumCooldownEndTime = currentTime + COOLDOWN_TICKS;
 
         LeoEnchantsMod.LOGGER.debug("Player {} quantum tunnelled {} blocks {}", 
             player.getName().getString(), TUNNEL_DISTANCE, direction);
@@ -315,12 +391,4 @@ public class QuantumTunnellingHandler {
             );
         }
     }
-
-    /**
-     * Clean up player data (call when player disconnects)
-     */
-    public static void removePlayer(UUID playerId) {
-        cooldowns.remove(playerId);
-    }
 }
-
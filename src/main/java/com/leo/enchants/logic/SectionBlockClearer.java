@@ -0,0 +1,106 @@
+package com.leo.enchants.logic;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.poi.PointOfInterestTypes;
+
+import java.util.Map;
+
+/**
+ * Clears large areas to air for Wither Impact and Giant Sword, writing straight into the
+ * chunk sections instead of going through {@code World.setBlockState} per block.
+ *
+ * Only the edge of the cleared area needs the world's updates, so those are sent once the
+ * whole area is gone ({@link #finish}): fluids next to it flow in, falling blocks above it
+ * fall, and the other halves of doors and tall plants reaching out of it break.
+ * Blocks the world has to track (block entities, points of interest) still take the
+ * regular path. Cleared blocks only queue light checks, which the light engine runs in one pass.
+ *
+ * Call {@link #clear} for each block of a section, {@link #endSection} after each section,
+ * and {@link #finish} once the whole area is cleared.
+ */
+public final class SectionBlockClearer {
+
+    private static final BlockState AIR = Blocks.AIR.getDefaultState();
+
+    // Cleared without the world's updates; the edge of these gets them in finish()
+    private final LongArrayList cleared = new LongArrayList();
+    private final ServerWorld world;
+    private final BlockPos.Mutable pos = new BlockPos.Mutable();
+    private boolean sectionChanged;
+
+    public SectionBlockClearer(ServerWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Clear the block at (x, y, z), currently {@code state}, in {@code section} of {@code chunk}. No drops.
+     */
+    public void clear(WorldChunk chunk, ChunkSection section, int x, int y, int z, BlockState state) {
+        pos.set(x, y, z);
+        if (state.hasBlockEntity() || PointOfInterestTypes.getTypeForState(state).isPresent()) {
+            // Let the world tear down block entities and points of interest properly
+            world.setBlockState(pos, AIR, Block.NOTIFY_ALL | Block.SKIP_DROPS);
+            return;
+        }
+
+        section.setBlockState(x & 15, y & 15, z & 15, AIR, false);
+        SectionVersions.bump(section);
+        for (Map.Entry<Heightmap.Type, Heightmap> heightmap : chunk.getHeightmaps()) {
+            heightmap.getValue().trackUpdate(x & 15, y, z & 15, AIR);
+        }
+        world.getChunkManager().markForUpdate(pos);
+        world.getChunkManager().getLightingProvider().checkBlock(pos);
+        cleared.add(pos.asLong());
+        sectionChanged = true;
+    }
+
+    /**
+     * Wrap up a section after its blocks were cleared.
+     */
+    public void endSection(WorldChunk chunk, ChunkSection section, int sectionY) {
+        if (!sectionChanged) {
+            return;
+        }
+        sectionChanged = false;
+        chunk.markNeedsSaving();
+        if (section.isEmpty()) {
+            world.getChunkManager().getLightingProvider().setSectionStatus(
+                ChunkSectionPos.from(chunk.getPos(), sectionY), true);
+        }
+    }
+
+    /**
+     * Send neighbor and shape updates from every cleared block that borders something
+     * still standing. Blocks inside the area only border air and are skipped.
+     */
+    public void finish() {
+        BlockPos.Mutable neighbor = new BlockPos.Mutable();
+        for (int i = 0; i < cleared.size(); i++) {
+            pos.set(cleared.getLong(i));
+            if (world.getBlockState(pos).isAir() && bordersBlock(pos, neighbor)) {
+                AIR.updateNeighbors(world, pos, Block.NOTIFY_LISTENERS | Block.SKIP_DROPS);
+                world.updateNeighbors(pos, Blocks.AIR);
+            }
+        }
+        cleared.clear();
+    }
+
+    private boolean bordersBlock(BlockPos pos, BlockPos.Mutable neighbor) {
+        for (Direction direction : Direction.values()) {
+            if (!world.getBlockState(neighbor.set(pos, direction)).isAir()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
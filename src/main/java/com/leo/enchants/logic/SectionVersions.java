@@ -0,0 +1,52 @@
+package com.leo.enchants.logic;
+
+import com.leo.enchants.accessor.ChunkSectionVersionAccessor;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+
+/**
+ * Change counters on chunk sections, so a cached block scan can tell whether anything it read has changed.
+ *
+ * Every block set in a loaded server chunk bumps its section's counter (WorldChunkMixin);
+ * code writing straight into sections bumps it itself ({@link #bump}).
+ */
+public final class SectionVersions {
+
+    private SectionVersions() {}
+
+    /**
+     * Mark a section as changed. Only needed for writes that bypass {@code WorldChunk.setBlockState}.
+     */
+    public static void bump(ChunkSection section) {
+        ((ChunkSectionVersionAccessor) section).leo_enchants$bumpVersion();
+    }
+
+    /**
+     * A fingerprint of the chunk sections covering the block box from min to max (inclusive).
+     * It changes when a block in any of them is set, or a section is unloaded and loaded again,
+     * so a scan over the box can be reused while it stays the same.
+     * @return the fingerprint, or 0 if part of the box isn't loaded
+     */
+    public static long signature(World world, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        long signature = 1;
+        for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+            for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+                Chunk chunk = world.getChunk(sx, sz, ChunkStatus.FULL, false);
+                if (chunk == null) {
+                    return 0;
+                }
+                for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                    int y = sy << 4;
+                    if (world.isOutOfHeightLimit(y)) continue;
+
+                    ChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+                    signature = signature * 31 + System.identityHashCode(section);
+                    signature = signature * 31 + ((ChunkSectionVersionAccessor) section).leo_enchants$getVersion();
+                }
+            }
+        }
+        return signature == 0 ? 1 : signature;
+    }
+}
@@ -1,6 +1,9 @@
 package com.leo.enchants.logic;
 
+import com.leo.enchants.attachment.ModAttachments;
+import com.leo.enchants.attachment.PlayerAbilityState;
 import com.leo.enchants.entity.SpaceTravelPortalEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -8,18 +11,20 @@ import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ChunkTicketType;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.Heightmap;
 import net.minecraft.world.TeleportTarget;
 import net.minecraft.world.World;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.WeakHashMap;
 
 /**
  * Handler for Space Travel item logic.
@@ -27,12 +32,6 @@ import java.util.UUID;
  */
 public class SpaceTravelHandler {
     
-    // Track player's selected dimension
-    private static final Map<UUID, String> playerDimensionSelection = new HashMap<>();
-    
-    // Track active portals per player
-    private static final Map<UUID, SpaceTravelPortalEntity> activePortals = new HashMap<>();
-    
     // Available dimensions
     private static final String[] DIMENSIONS = {
         "minecraft:overworld",
@@ -40,6 +39,22 @@ public class SpaceTravelHandler {
         "minecraft:the_end"
     };
     
+    // Emergency landing platforms revert to what was there after 5 minutes
+    private static final int PLATFORM_LIFETIME_TICKS = 20 * 60 * 5;
+    
+    // Standard End spawn platform location
+    private static final BlockPos END_PLATFORM = new BlockPos(100, 49, 0);
+    
+    // Destination chunks are loaded around the landing spot while the portal is open
+    private static final int LANDING_TICKET_RADIUS = 2;
+    
+    // Recent landing spots per world, by chunk, reused while they stay safe
+    private static final int LANDING_CACHE_TICKS = 20 * 60 * 5;
+    private static final int LANDING_CACHE_SIZE = 64;
+    private static final Map<ServerWorld, Long2ObjectOpenHashMap<CachedLanding>> LANDING_CACHE = new WeakHashMap<>();
+    
+    private record CachedLanding(Vec3d pos, long time) {}
+    
     /**
      * Get the dimension name suitable for display
      */
@@ -56,8 +71,8 @@ public class SpaceTravelHandler {
      * Cycle to the next dimension for the player
      */
     public static void cycleDimension(ServerPlayerEntity player) {
-        UUID playerId = player.getUuid();
-        String currentDimension = playerDimensionSelection.getOrDefault(playerId, DIMENSIONS[0]);
+        PlayerAbilityState state = ModAttachments.get(player);
+        String currentDimension = state.selectedDimension != null ? state.selectedDimension : DIMENSIONS[0];
         
         // Find current index and cycle to next
         int currentIndex = 0;
@@ -78,7 +93,7 @@ public class SpaceTravelHandler {
             nextDimension = DIMENSIONS[nextIndex];
         }
         
-        playerDimensionSelection.put(playerId, nextDimension);
+        state.selectedDimension = nextDimension;
         
         String displayName = getDimensionDisplayName(nextDimension);
         player.sendMessage(Text.literal("§b[Space Travel] §7Target: §e" + displayName), true);
@@ -88,14 +103,14 @@ public class SpaceTravelHandler {
      * Get the currently selected dimension for a player
      */
     public static String getSelectedDimension(ServerPlayerEntity player) {
-        UUID playerId = player.getUuid();
-        String currentDimension = playerDimensionSelection.getOrDefault(playerId, DIMENSIONS[0]);
+        PlayerAbilityState state = ModAttachments.get(player);
+        String currentDimension = state.selectedDimension != null ? state.selectedDimension : DIMENSIONS[0];
         
         // If current dimension is same as player's world, switch to another
         String playerDimension = player.getWorld().getRegistryKey().getValue().toString();
         if (currentDimension.equals(playerDimension)) {
             cycleDimension(player);
-            return playerDimensionSelection.get(playerId);
+            return state.selectedDimension;
         }
         
         return currentDimension;
@@ -105,22 +120,88 @@ public class SpaceTravelHandler {
      * Check if a player has an active portal
      */
     public static boolean hasActivePortal(ServerPlayerEntity player) {
-        SpaceTravelPortalEntity portal = activePortals.get(player.getUuid());
-        return portal != null && !portal.isRemoved();
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        return state != null && state.activePortal != null && !state.activePortal.isRemoved();
     }
     
     /**
      * Register an active portal for a player
      */
     public static void registerPortal(ServerPlayerEntity player, SpaceTravelPortalEntity portal) {
-        activePortals.put(player.getUuid(), portal);
+        ModAttachments.get(player).activePortal = portal;
     }
     
     /**
-     * Unregister a player's portal
+     * Unregister a player's portal (no-op if the owner is offline or already opened another portal)
      */
-    public static void unregisterPortal(UUID playerId) {
-        activePortals.remove(playerId);
+    public static void unregisterPortal(MinecraftServer server, UUID playerId, SpaceTravelPortalEntity portal) {
+        ServerPlayerEntity player = server.getPlayerManager().getPlayer(playerId);
+        if (player == null) {
+            return;
+        }
+        PlayerAbilityState state = ModAttachments.getIfPresent(player);
+        if (state != null && state.activePortal == portal) {
+            state.activePortal = null;
+        }
+    }
+    
+    /**
+     * A landing spot found ahead of time. The platform (if any) is only built on arrival.
+     */
+    public record Landing(Vec3d pos, PlatformKind platform, BlockPos platformPos) {
+        
+        static Landing at(Vec3d pos) {
+            return new Landing(pos, PlatformKind.NONE, null);
+        }
+    }
+    
+    public enum PlatformKind {
+        NONE,     // Spot is already safe
+        SAFE,     // 3x3 platform under the spot
+        NETHER,   // 3x3 platform with space cleared above
+        END       // The 5x5 End spawn platform
+    }
+    
+    /**
+     * Prepare the landing spot for an open portal, a step per tick.
+     * First a ticket loads the destination chunks in the background; once they're loaded
+     * the spot is searched (no chunk generation on the main thread) and kept on the portal.
+     */
+    public static void prepareLanding(SpaceTravelPortalEntity portal) {
+        if (portal.getPreparedLanding() != null) {
+            return;
+        }
+        ServerWorld targetWorld = getTargetWorld(((ServerWorld) portal.getWorld()).getServer(), portal.getTargetDimension());
+        if (targetWorld == null) {
+            return;
+        }
+        
+        Vec3d target = scaleToTarget(portal.getWorld(), targetWorld, portal.getX(), portal.getZ());
+        ChunkPos chunkPos = landingChunk(targetWorld, target);
+        
+        // A recent landing in the same chunk that's still safe can be reused as is
+        Vec3d cached = getCachedLanding(targetWorld, chunkPos);
+        if (cached != null) {
+            portal.setPreparedLanding(Landing.at(cached));
+            return;
+        }
+        
+        if (!portal.isLandingRequested()) {
+            targetWorld.getChunkManager().addTicket(ChunkTicketType.PORTAL, chunkPos, LANDING_TICKET_RADIUS);
+            portal.setLandingRequested(true);
+            return;
+        }
+        
+        // Wait until the landing chunk and its neighbors (the scans reach 2 blocks out) are loaded
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dz = -1; dz <= 1; dz++) {
+                if (targetWorld.getChunkManager().getWorldChunk(chunkPos.x + dx, chunkPos.z + dz) == null) {
+                    return;
+                }
+            }
+        }
+        
+        portal.setPreparedLanding(findLanding(targetWorld, target.x, target.z));
     }
     
     /**
@@ -132,19 +213,20 @@ public class SpaceTravelHandler {
         if (server == null) return;
         
         // Get the target world
-        RegistryKey<World> targetKey = RegistryKey.of(
-            RegistryKeys.WORLD,
-            Identifier.of(targetDimensionId)
-        );
-        
-        ServerWorld targetWorld = server.getWorld(targetKey);
+        ServerWorld targetWorld = getTargetWorld(server, targetDimensionId);
         if (targetWorld == null) {
             player.sendMessage(Text.literal("§c[Space Travel] §7Dimension not found!"), true);
             return;
         }
         
-        // Calculate safe landing position in target dimension
-        Vec3d targetPos = calculateSafeLandingPosition(player, targetWorld);
+        // Use the landing prepared while the portal was open, unless it's gone stale
+        Landing landing = portal.getPreparedLanding();
+        if (landing == null || (landing.platform() == PlatformKind.NONE && !isStillSafe(targetWorld, landing.pos()))) {
+            Vec3d target = scaleToTarget(portal.getWorld(), targetWorld, portal.getX(), portal.getZ());
+            landing = findLanding(targetWorld, target.x, target.z);
+        }
+        Vec3d targetPos = applyLanding(targetWorld, landing);
+        cacheLanding(targetWorld, targetPos);
         
         // Create teleport target
         TeleportTarget teleportTarget = new TeleportTarget(
@@ -163,16 +245,21 @@ public class SpaceTravelHandler {
         player.sendMessage(Text.literal("§b[Space Travel] §7Arrived in §e" + dimensionName + "§7!"), true);
     }
     
+    private static ServerWorld getTargetWorld(MinecraftServer server, String dimensionId) {
+        if (server == null) return null;
+        RegistryKey<World> targetKey = RegistryKey.of(
+            RegistryKeys.WORLD,
+            Identifier.of(dimensionId)
+        );
+        return server.getWorld(targetKey);
+    }
+    
     /**
-     * Calculate a safe landing position in the target dimension
+     * Map X/Z from the source world into the target world (nether scaling, world border clamp)
      */
-    private static Vec3d calculateSafeLandingPosition(ServerPlayerEntity player, ServerWorld targetWorld) {
-        // Use player's current X/Z coordinates, scaled appropriately
-        double x = player.getX();
-        double z = player.getZ();
-        
+    private static Vec3d scaleToTarget(World sourceWorld, ServerWorld targetWorld, double x, double z) {
         String dimensionId = targetWorld.getRegistryKey().getValue().toString();
-        String sourceDimensionId = player.getWorld().getRegistryKey().getValue().toString();
+        String sourceDimensionId = sourceWorld.getRegistryKey().getValue().toString();
         
         // Scale coordinates for nether travel
         if (sourceDimensionId.contains("overworld") && dimensionId.contains("nether")) {
@@ -187,34 +274,117 @@ public class SpaceTravelHandler {
         x = Math.max(-29999872, Math.min(29999872, x));
         z = Math.max(-29999872, Math.min(29999872, z));
         
+        return new Vec3d(x, 0, z);
+    }
+    
+    /**
+     * The chunk {@link #findLanding} will land in: the End platform's in the End, else the one at the scaled X/Z
+     */
+    private static ChunkPos landingChunk(ServerWorld targetWorld, Vec3d target) {
+        if (targetWorld.getRegistryKey().getValue().toString().contains("end")) {
+            return new ChunkPos(END_PLATFORM);
+        }
+        return new ChunkPos(BlockPos.ofFloored(target.x, 0, target.z));
+    }
+    
+    /**
+     * Find a safe landing spot in the target dimension. Only reads blocks; platforms are built by {@link #applyLanding}.
+     */
+    private static Landing findLanding(ServerWorld targetWorld, double x, double z) {
+        String dimensionId = targetWorld.getRegistryKey().getValue().toString();
         BlockPos blockPos = BlockPos.ofFloored(x, 64, z);
         
         // Find safe Y position
         if (dimensionId.contains("nether")) {
-            // In nether, search for safe space and create platform if needed
+            // In nether, search for safe space and plan a platform if needed
             return findNetherSafePosition(targetWorld, blockPos);
         } else if (dimensionId.contains("end")) {
             // In end, create/ensure obsidian platform and spawn there
-            return createEndPlatform(targetWorld);
+            return new Landing(new Vec3d(END_PLATFORM.getX() + 0.5, END_PLATFORM.getY() + 1, END_PLATFORM.getZ() + 0.5),
+                PlatformKind.END, END_PLATFORM);
         } else {
             // Overworld - use heightmap and ensure safe landing
             int safeY = targetWorld.getTopY(Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, (int) x, (int) z) + 1;
             BlockPos landingPos = new BlockPos((int) x, safeY - 1, (int) z);
             
-            // If landing in water or on dangerous block, create platform
+            // If landing in water or on dangerous block, plan a platform
             if (isDangerousBlock(targetWorld, landingPos)) {
-                createSafePlatform(targetWorld, landingPos.up());
                 safeY = landingPos.up().getY() + 1;
+                return new Landing(new Vec3d(x + 0.5, safeY, z + 0.5), PlatformKind.SAFE, landingPos.up());
             }
             
-            return new Vec3d(x + 0.5, safeY, z + 0.5);
+            return Landing.at(new Vec3d(x + 0.5, safeY, z + 0.5));
         }
     }
     
     /**
-     * Find a safe position in the Nether, creating a platform if necessary
+     * Build the landing's platform if it has one, and return where to put the player
      */
-    private static Vec3d findNetherSafePosition(ServerWorld world, BlockPos basePos) {
+    private static Vec3d applyLanding(ServerWorld world, Landing landing) {
+        switch (landing.platform()) {
+            case SAFE -> createSafePlatform(world, landing.platformPos());
+            case NETHER -> createNetherPlatform(world, landing.platformPos());
+            case END -> createEndPlatform(world);
+            case NONE -> {}
+        }
+        return landing.pos();
+    }
+    
+    /**
+     * Check that a previously found landing spot still has room to stand and ground below
+     */
+    private static boolean isStillSafe(ServerWorld world, Vec3d pos) {
+        BlockPos feet = BlockPos.ofFloored(pos);
+        if (!world.isAir(feet) || !world.isAir(feet.up())) {
+            return false;
+        }
+        // Spots can be up to two blocks above their floor
+        for (int dy = 1; dy <= 2; dy++) {
+            BlockPos floor = feet.down(dy);
+            if (!world.isAir(floor)) {
+                return !isDangerousBlock(world, floor);
+            }
+        }
+        return false;
+    }
+    
+    private static Vec3d getCachedLanding(ServerWorld world, ChunkPos chunkPos) {
+        Long2ObjectOpenHashMap<CachedLanding> cache = LANDING_CACHE.get(world);
+        if (cache == null) {
+            return null;
+        }
+        CachedLanding cached = cache.get(chunkPos.toLong());
+        if (cached == null) {
+            return null;
+        }
+        // Reading the spot is cheap here: the chunk is loaded if it was used recently
+        if (world.getTime() - cached.time() > LANDING_CACHE_TICKS
+            || world.getChunkManager().getWorldChunk(chunkPos.x, chunkPos.z) == null
+            || !isStillSafe(world, cached.pos())) {
+            cache.remove(chunkPos.toLong());
+            return null;
+        }
+        return cached.pos();
+    }
+    
+    private static void cacheLanding(ServerWorld world, Vec3d pos) {
+        ChunkPos chunkPos = new ChunkPos(BlockPos.ofFloored(pos));
+        Long2ObjectOpenHashMap<CachedLanding> cache = LANDING_CACHE.computeIfAbsent(world, w -> new Long2ObjectOpenHashMap<>());
+        // Keep the cache small; old entries would be stale anyway
+        if (cache.size() >= LANDING_CACHE_SIZE) {
+            long time = world.getTime();
+            cache.values().removeIf(cached -> time - cached.time() > LANDING_CACHE_TICKS);
+            if (cache.size() >= LANDING_CACHE_SIZE) {
+                cache.clear();
+            }
+        }
+        cache.put(chunkPos.toLong(), new CachedLanding(pos, world.getTime()));
+    }
+    
+    /**
+     * Find a safe position in the Nether, planning a platform if necessary
+     */
+    private static Landing findNetherSafePosition(ServerWorld world, BlockPos basePos) {
         int x = basePos.getX();
         int z = basePos.getZ();
         
@@ -222,15 +392,22 @@ public class SpaceTravelHandler {
         for (int y = 32; y < 120; y++) {
             BlockPos checkPos = new BlockPos(x, y, z);
             if (isSafeNetherSpot(world, checkPos)) {
-                return new Vec3d(x + 0.5, y, z + 0.5);
+                return Landing.at(new Vec3d(x + 0.5, y, z + 0.5));
             }
         }
         
-        // No safe spot found - create a platform
+        // No safe spot found - plan a platform
         // Find the best Y level (prefer around Y=70 for breathing room)
         int platformY = findBestNetherPlatformY(world, x, z);
         BlockPos platformPos = new BlockPos(x, platformY, z);
         
+        return new Landing(new Vec3d(x + 0.5, platformY, z + 0.5), PlatformKind.NETHER, platformPos);
+    }
+    
+    /**
+     * Create a Nether platform and clear space above it
+     */
+    private static void createNetherPlatform(ServerWorld world, BlockPos platformPos) {
         createSafePlatform(world, platformPos);
         
         // Clear space above platform
@@ -244,8 +421,6 @@ public class SpaceTravelHandler {
                 }
             }
         }
-        
-        return new Vec3d(x + 0.5, platformY, z + 0.5);
     }
     
     /**
@@ -349,33 +524,30 @@ public class SpaceTravelHandler {
     }
     
     /**
-     * Create a safe 3x3 obsidian platform
+     * Create a safe, temporary 3x3 obsidian platform
      */
     private static void createSafePlatform(ServerWorld world, BlockPos center) {
+        long expiresAt = world.getTime() + PLATFORM_LIFETIME_TICKS;
         for (int dx = -1; dx <= 1; dx++) {
             for (int dz = -1; dz <= 1; dz++) {
                 BlockPos platformPos = center.add(dx, -1, dz);
-                world.setBlockState(platformPos, Blocks.OBSIDIAN.getDefaultState());
+                TemporaryBlocks.place(world, platformPos, Blocks.OBSIDIAN.getDefaultState(), expiresAt);
             }
         }
     }
     
     /**
-     * Create the End spawn platform (obsidian platform at 100, 48, 0)
+     * Create the End spawn platform (obsidian platform at 100, 49, 0)
      */
-    private static Vec3d createEndPlatform(ServerWorld world) {
-        // Standard End spawn platform location
-        int x = 100;
-        int y = 49;
-        int z = 0;
+    private static void createEndPlatform(ServerWorld world) {
+        BlockPos platformCenter = END_PLATFORM;
         
-        BlockPos platformCenter = new BlockPos(x, y, z);
-        
-        // Create 5x5 obsidian platform
+        // Create temporary 5x5 obsidian platform
+        long expiresAt = world.getTime() + PLATFORM_LIFETIME_TICKS;
         for (int dx = -2; dx <= 2; dx++) {
             for (int dz = -2; dz <= 2; dz++) {
                 BlockPos platformPos = platformCenter.add(dx, 0, dz);
-                world.setBlockState(platformPos, Blocks.OBSIDIAN.getDefaultState());
+                TemporaryBlocks.place(world, platformPos, Blocks.OBSIDIAN.getDefaultState(), expiresAt);
             }
         }
         
@@ -390,8 +562,6 @@ public class SpaceTravelHandler {
                 }
             }
         }
-        
-        return new Vec3d(x + 0.5, y + 1, z + 0.5);
     }
     
     /**
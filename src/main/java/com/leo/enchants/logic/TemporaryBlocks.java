@@ -0,0 +1,127 @@
+package com.leo.enchants.logic;
+
+import com.leo.enchants.LeoEnchantsMod;
+import com.leo.enchants.attachment.BlockLedgerDecay;
+import com.leo.enchants.attachment.ChunkBlockLedger;
+import com.leo.enchants.attachment.ModAttachments;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Temporary blocks placed by abilities (Obsidian Lore bridges and strikes, Space Travel platforms).
+ *
+ * Each placement is recorded in its chunk's temporary block ledger with the block it replaced
+ * and when it should disappear. The original block is stored once: when two placements overlap
+ * (e.g. two crossing bridges), the block stays until the later one expires and then the
+ * original comes back. Ledgers are saved with the chunk and restored in batches by
+ * {@link BlockLedgerDecay}.
+ */
+public final class TemporaryBlocks {
+
+    private static final BlockLedgerDecay DECAY = new BlockLedgerDecay(ModAttachments.TEMPORARY_BLOCK_LEDGER);
+
+    private TemporaryBlocks() {}
+
+    public static void register() {
+        LeoEnchantsMod.LOGGER.info("Registering Temporary Block Ledger for " + LeoEnchantsMod.MOD_ID);
+        DECAY.register();
+    }
+
+    /**
+     * Check if a temporary {@code state} may go at {@code pos}: the spot is air or replaceable,
+     * or it already holds the same temporary block (an overlap that just extends it).
+     */
+    public static boolean canPlace(ServerWorld world, BlockPos pos, BlockState state) {
+        WorldChunk chunk = world.getWorldChunk(pos);
+        return canPlace(chunk.getBlockState(pos), DECAY.getIfPresent(chunk), pos, state);
+    }
+
+    private static boolean canPlace(BlockState current, ChunkBlockLedger ledger, BlockPos pos, BlockState state) {
+        if (current.isAir() || current.isReplaceable()) {
+            return true;
+        }
+        if (current != state || ledger == null) {
+            return false;
+        }
+        ChunkBlockLedger.Entry entry = ledger.get(pos.asLong());
+        return entry != null && entry.placed() == state;
+    }
+
+    /**
+     * Place {@code state} at {@code pos} until world time {@code expiresAt}, then restore the original block.
+     * Callers that shouldn't overwrite solid blocks check {@link #canPlace} first.
+     */
+    public static void place(ServerWorld world, BlockPos pos, BlockState state, long expiresAt) {
+        WorldChunk chunk = world.getWorldChunk(pos);
+        ChunkBlockLedger ledger = DECAY.getOrCreate(chunk);
+
+        BlockState prior = chunk.getBlockState(pos);
+        if (prior != state) {
+            world.setBlockState(pos, state);
+        }
+        // An existing entry keeps its original prior state, so overlaps don't record our own block
+        DECAY.record(world, chunk, ledger, pos, prior, state, expiresAt);
+    }
+
+    /**
+     * Place one build step's worth of temporary blocks where {@link #canPlace} allows.
+     * Blocks are synced to clients and shape updates still run (fences connect, fluids settle),
+     * but no neighbor updates are fired per block, and lighting is left to the light engine's
+     * queued pass. Each chunk is looked up once per run of positions in it, and its ledger is
+     * saved and queued for decay once for the whole batch.
+     * @return the positions that were placed
+     */
+    public static List<BlockPos> placeBatch(ServerWorld world, List<BlockPos> positions, BlockState state, long expiresAt) {
+        List<BlockPos> placed = new ArrayList<>(positions.size());
+        Map<WorldChunk, ChunkBlockLedger> touched = new IdentityHashMap<>();
+        WorldChunk chunk = null;
+        ChunkBlockLedger ledger = null;
+
+        for (BlockPos pos : positions) {
+            if (chunk == null || chunk.getPos().x != pos.getX() >> 4 || chunk.getPos().z != pos.getZ() >> 4) {
+                chunk = world.getWorldChunk(pos);
+                ledger = DECAY.getIfPresent(chunk);
+            }
+
+            BlockState prior = chunk.getBlockState(pos);
+            if (!canPlace(prior, ledger, pos, state)) {
+                continue;
+            }
+            if (prior != state) {
+                world.setBlockState(pos, state, Block.NOTIFY_LISTENERS);
+            }
+            if (ledger == null) {
+                ledger = DECAY.getOrCreate(chunk);
+            }
+            // An existing entry keeps its original prior state, so overlaps don't record our own block
+            ledger.add(new ChunkBlockLedger.Entry(pos.asLong(), expiresAt, state, prior));
+            touched.put(chunk, ledger);
+            placed.add(pos);
+        }
+
+        for (Map.Entry<WorldChunk, ChunkBlockLedger> entry : touched.entrySet()) {
+            DECAY.commit(world, entry.getKey(), entry.getValue());
+        }
+        return placed;
+    }
+
+    /**
+     * Bounding box of a batch of block positions
+     */
+    public static Box batchBounds(List<BlockPos> positions) {
+        Box area = new Box(positions.get(0));
+        for (int i = 1; i < positions.size(); i++) {
+            area = area.union(new Box(positions.get(i)));
+        }
+        return area;
+    }
+}
@@ -0,0 +1,177 @@
+package com.leo.enchants.logic;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.ChunkStatus;
+
+/**
+ * Voxel ray traversal (Amanatides-Woo DDA) for block scans like Quantum Tunnelling and
+ * Wither Impact.
+ *
+ * Blocks are read straight from chunk sections, and nothing is allocated per voxel.
+ * A section holding a single block state (all air, all stone, ...) is crossed in one
+ * step instead of voxel by voxel. Scans stop at unloaded chunks instead of loading them.
+ */
+public final class VoxelTraversal {
+
+    // Nudge used to pick the voxel on the far side of a boundary the ray is on
+    private static final double BOUNDARY_EPSILON = 1.0E-9;
+
+    private static final BlockState VOID_AIR = Blocks.VOID_AIR.getDefaultState();
+
+    private VoxelTraversal() {}
+
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * Visit the part of the ray from distance {@code tEnter} to {@code tExit}.
+         * Normally that's the single voxel at {@code pos}. When {@code uniform} is true it is a
+         * whole run through a single-state section, starting at {@code pos}.
+         * {@code pos} is reused between calls.
+         * @return false to stop the traversal
+         */
+        boolean visit(BlockPos.Mutable pos, BlockState state, double tEnter, double tExit, boolean uniform);
+    }
+
+    /**
+     * Walk the voxels along a ray from (x, y, z) in the unit direction (dx, dy, dz), in order.
+     * @return how far the ray got: {@code maxDistance} if it got all the way, otherwise where the
+     *         voxel the visitor stopped at (or the first unloaded one) begins
+     */
+    public static double traverse(World world, double x, double y, double z,
+                                  double dx, double dy, double dz, double maxDistance, Visitor visitor) {
+        int stepX = dx > 0 ? 1 : dx < 0 ? -1 : 0;
+        int stepY = dy > 0 ? 1 : dy < 0 ? -1 : 0;
+        int stepZ = dz > 0 ? 1 : dz < 0 ? -1 : 0;
+        double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / dx);
+        double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / dy);
+        double deltaZ = stepZ == 0 ? Double.POSITIVE_INFINITY : Math.abs(1.0 / dz);
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        Chunk chunk = null;
+        int chunkX = Integer.MIN_VALUE;
+        int chunkZ = Integer.MIN_VALUE;
+
+        int vx = MathHelper.floor(x + stepX * BOUNDARY_EPSILON);
+        int vy = MathHelper.floor(y + stepY * BOUNDARY_EPSILON);
+        int vz = MathHelper.floor(z + stepZ * BOUNDARY_EPSILON);
+        double maxX = (stepX > 0 ? vx + 1 - x : x - vx) * deltaX;
+        double maxY = (stepY > 0 ? vy + 1 - y : y - vy) * deltaY;
+        double maxZ = (stepZ > 0 ? vz + 1 - z : z - vz) * deltaZ;
+
+        int sectionX = Integer.MIN_VALUE;
+        int sectionY = Integer.MIN_VALUE;
+        int sectionZ = Integer.MIN_VALUE;
+        ChunkSection section = null;
+        BlockState uniformState = null;
+
+        double t = 0;
+        while (t < maxDistance) {
+            if (vx >> 4 != sectionX || vy >> 4 != sectionY || vz >> 4 != sectionZ) {
+                sectionX = vx >> 4;
+                sectionY = vy >> 4;
+                sectionZ = vz >> 4;
+                if (sectionX != chunkX || sectionZ != chunkZ) {
+                    chunkX = sectionX;
+                    chunkZ = sectionZ;
+                    chunk = world.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+                }
+                if (chunk == null) {
+                    return t;
+                }
+                section = world.isOutOfHeightLimit(vy) ? null : chunk.getSection(chunk.getSectionIndex(vy));
+                uniformState = getUniformState(section);
+            }
+
+            pos.set(vx, vy, vz);
+
+            if (uniformState != null) {
+                // Jump straight to where the ray leaves this section
+                double exitX = sectionExit(x, dx, stepX, sectionX);
+                double exitY = sectionExit(y, dy, stepY, sectionY);
+                double exitZ = sectionExit(z, dz, stepZ, sectionZ);
+                double exit = Math.min(exitX, Math.min(exitY, exitZ));
+                if (!visitor.visit(pos, uniformState, t, Math.min(exit, maxDistance), true)) {
+                    return t;
+                }
+                t = exit;
+                if (t >= maxDistance) {
+                    break;
+                }
+
+                // Step over the exit boundary on one axis; the others stay inside this section's range
+                double px = x + dx * t;
+                double py = y + dy * t;
+                double pz = z + dz * t;
+                vx = MathHelper.clamp(MathHelper.floor(px + stepX * BOUNDARY_EPSILON), sectionX << 4, (sectionX << 4) + 15);
+                vy = MathHelper.clamp(MathHelper.floor(py + stepY * BOUNDARY_EPSILON), sectionY << 4, (sectionY << 4) + 15);
+                vz = MathHelper.clamp(MathHelper.floor(pz + stepZ * BOUNDARY_EPSILON), sectionZ << 4, (sectionZ << 4) + 15);
+                maxX = t + (stepX > 0 ? vx + 1 - px : px - vx) * deltaX;
+                maxY = t + (stepY > 0 ? vy + 1 - py : py - vy) * deltaY;
+                maxZ = t + (stepZ > 0 ? vz + 1 - pz : pz - vz) * deltaZ;
+                if (exitX <= exitY && exitX <= exitZ) {
+                    vx = stepX > 0 ? (sectionX << 4) + 16 : (sectionX << 4) - 1;
+                    maxX = exitX + deltaX;
+                } else if (exitY <= exitZ) {
+                    vy = stepY > 0 ? (sectionY << 4) + 16 : (sectionY << 4) - 1;
+                    maxY = exitY + deltaY;
+                } else {
+                    vz = stepZ > 0 ? (sectionZ << 4) + 16 : (sectionZ << 4) - 1;
+                    maxZ = exitZ + deltaZ;
+                }
+                continue;
+            }
+
+            double next = Math.min(maxX, Math.min(maxY, maxZ));
+            BlockState state = section.getBlockState(vx & 15, vy & 15, vz & 15);
+            if (!visitor.visit(pos, state, t, Math.min(next, maxDistance), false)) {
+                return t;
+            }
+            t = next;
+
+            if (maxX <= maxY && maxX <= maxZ) {
+                vx += stepX;
+                maxX += deltaX;
+            } else if (maxY <= maxZ) {
+                vy += stepY;
+                maxY += deltaY;
+            } else {
+                vz += stepZ;
+                maxZ += deltaZ;
+            }
+        }
+        return maxDistance;
+    }
+
+    /**
+     * The single state filling a section, or null if it holds more than one.
+     * Sections with no non-air blocks count as air, out-of-world ones as void air. The palette may still list states that were
+     * overwritten, so this can miss a uniform section but never reports a mixed one.
+     */
+    private static BlockState getUniformState(ChunkSection section) {
+        if (section == null) {
+            return VOID_AIR;
+        }
+        if (section.isEmpty()) {
+            return section.getBlockState(0, 0, 0);
+        }
+        BlockState first = section.getBlockState(0, 0, 0);
+        return section.hasAny(state -> state != first) ? null : first;
+    }
+
+    /**
+     * Ray distance at which one axis leaves the section at {@code sectionCoord}.
+     */
+    private static double sectionExit(double origin, double dir, int step, int sectionCoord) {
+        if (step == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        int boundary = step > 0 ? (sectionCoord << 4) + 16 : sectionCoord << 4;
+        return (boundary - origin) / dir;
+    }
+}
@@ -0,0 +1,245 @@
+package com.leo.enchants.logic;
+
+import com.leo.enchants.LeoEnchantsMod;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.minecraft.block.BlockState;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.damage.DamageSource;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Wither Impact's blast damage and (at level 3) block destruction.
+ *
+ * Blasts a player sets off within {@link #MERGE_WINDOW_TICKS} of the first one are merged and
+ * resolved together when the window closes: one entity query covering all of them, every
+ * entity hit once, and blocks cleared section by section with a {@link SectionBlockClearer}
+ * instead of a vanilla explosion with its exposure rays and drops.
+ */
+public final class WitherImpactBlast {
+
+    // Blasts within this many ticks of a player's first one are resolved together
+    private static final int MERGE_WINDOW_TICKS = 4;
+
+    // Entities within this many blocks of the player's box are hit
+    private static final double DAMAGE_RADIUS = 6.0;
+
+    // Level 3 block destruction: a sphere of this radius, sparing anything as tough as obsidian
+    private static final int BLOCK_RADIUS = 5;
+    private static final float MAX_BLAST_RESISTANCE = 9.0f;
+
+    // Level 3 knockback and falloff damage follow a vanilla explosion of this power
+    private static final float LEVEL_3_POWER = 7.0f;
+
+    // Player -> blasts waiting for the merge window to close
+    private static final Map<PlayerEntity, PendingBlast> PENDING = new WeakHashMap<>();
+
+    private WitherImpactBlast() {}
+
+    private static final class PendingBlast {
+        private final ServerWorld world;
+        private final long resolveAt;
+        private final List<Vec3d> centers = new ArrayList<>();
+        private final List<Box> areas = new ArrayList<>();
+        private int level;
+
+        private PendingBlast(ServerWorld world, long resolveAt) {
+            this.world = world;
+            this.resolveAt = resolveAt;
+        }
+    }
+
+    public static void register() {
+        LeoEnchantsMod.LOGGER.info("Registering Wither Impact Blast for " + LeoEnchantsMod.MOD_ID);
+        ServerTickEvents.END_SERVER_TICK.register(WitherImpactBlast::tick);
+    }
+
+    /**
+     * Queue a blast at the player's current position. It joins the player's pending blast
+     * if one is still open in the same world.
+     */
+    public static void queue(PlayerEntity player, ServerWorld world, int level) {
+        PendingBlast blast = PENDING.get(player);
+        if (blast == null || blast.world != world) {
+            if (blast != null) {
+                resolve(player, blast);
+            }
+            blast = new PendingBlast(world, world.getTime() + MERGE_WINDOW_TICKS);
+            PENDING.put(player, blast);
+        }
+        blast.centers.add(player.getPos());
+        blast.areas.add(player.getBoundingBox().expand(DAMAGE_RADIUS));
+        blast.level = Math.max(blast.level, level);
+    }
+
+    private static void tick(MinecraftServer server) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+
+        // Collect first so resolving a blast can't disturb the iteration
+        List<PlayerEntity> players = new ArrayList<>();
+        List<PendingBlast> due = new ArrayList<>();
+        Iterator<Map.Entry<PlayerEntity, PendingBlast>> iterator = PENDING.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<PlayerEntity, PendingBlast> entry = iterator.next();
+            PendingBlast blast = entry.getValue();
+            if (blast.world.getTime() >= blast.resolveAt) {
+                players.add(entry.getKey());
+                due.add(blast);
+                iterator.remove();
+            }
+        }
+
+        for (int i = 0; i < due.size(); i++) {
+            resolve(players.get(i), due.get(i));
+        }
+    }
+
+    private static void resolve(PlayerEntity player, PendingBlast blast) {
+        damageEntities(player, blast);
+
+        if (blast.level >= 3 && blast.world.getGameRules().getBoolean(GameRules.DO_MOB_GRIEFING)) {
+            SectionBlockClearer clearer = new SectionBlockClearer(blast.world);
+            for (Vec3d center : blast.centers) {
+                destroyBlocks(blast.world, clearer, center);
+            }
+            clearer.finish();
+        }
+    }
+
+    /**
+     * One entity query over every merged blast; each entity is hit once, by the closest blast it's in.
+     */
+    private static void damageEntities(PlayerEntity player, PendingBlast blast) {
+        Box query = blast.areas.get(0);
+        for (int i = 1; i < blast.areas.size(); i++) {
+            query = query.union(blast.areas.get(i));
+        }
+
+        List<LivingEntity> entities = blast.world.getEntitiesByClass(LivingEntity.class, query,
+            entity -> entity != player && entity.isAlive());
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        DamageSource source = player.getDamageSources().explosion(null);
+        float baseDamage = blast.level >= 2 ? 15.0f : 10.0f;
+
+        for (LivingEntity entity : entities) {
+            Box box = entity.getBoundingBox();
+            Vec3d closest = null;
+            double closestDistSq = Double.MAX_VALUE;
+            for (int i = 0; i < blast.centers.size(); i++) {
+                if (!blast.areas.get(i).intersects(box)) continue;
+
+                double distSq = entity.squaredDistanceTo(blast.centers.get(i));
+                if (distSq < closestDistSq) {
+                    closestDistSq = distSq;
+                    closest = blast.centers.get(i);
+                }
+            }
+            if (closest == null) continue;
+
+            float damage = baseDamage;
+            if (blast.level >= 3) {
+                // Vanilla explosion falloff, without the exposure rays
+                double impact = 1.0 - Math.sqrt(closestDistSq) / (LEVEL_3_POWER * 2.0);
+                if (impact > 0) {
+                    damage = Math.max(damage, (float) ((impact * impact + impact) / 2.0 * 7.0 * (LEVEL_3_POWER * 2.0) + 1.0));
+                    Vec3d push = entity.getPos().subtract(closest);
+                    if (push.lengthSquared() > 1.0E-4) {
+                        entity.addVelocity(push.normalize().multiply(impact));
+                        entity.velocityModified = true;
+                    }
+                }
+            }
+            entity.damage(blast.world, source, damage);
+        }
+    }
+
+    /**
+     * Clear the blast sphere around {@code center}, one chunk section at a time.
+     */
+    private static void destroyBlocks(ServerWorld world, SectionBlockClearer clearer, Vec3d center) {
+        int centerX = MathHelper.floor(center.x);
+        int centerY = MathHelper.floor(center.y);
+        int centerZ = MathHelper.floor(center.z);
+        int minY = Math.max(centerY - BLOCK_RADIUS, world.getBottomY());
+        int maxY = Math.min(centerY + BLOCK_RADIUS, world.getTopYInclusive());
+        if (minY > maxY) {
+            return;
+        }
+
+        for (int chunkX = (centerX - BLOCK_RADIUS) >> 4; chunkX <= (centerX + BLOCK_RADIUS) >> 4; chunkX++) {
+            for (int chunkZ = (centerZ - BLOCK_RADIUS) >> 4; chunkZ <= (centerZ + BLOCK_RADIUS) >> 4; chunkZ++) {
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkX, chunkZ);
+                if (chunk == null) continue;
+
+                for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+                    destroySection(clearer, chunk, sectionY,
+                        Math.max(minY, sectionY << 4), Math.min(maxY, (sectionY << 4) + 15),
+                        centerX, centerY, centerZ);
+                }
+            }
+        }
+    }
+
+    private static void destroySection(SectionBlockClearer clearer, WorldChunk chunk, int sectionY, int minY, int maxY,
+                                       int centerX, int centerY, int centerZ) {
+        ChunkSection section = chunk.getSection(chunk.getSectionIndex(minY));
+        if (section.isEmpty()) {
+            return;
+        }
+
+        int chunkMinX = chunk.getPos().getStartX();
+        int chunkMinZ = chunk.getPos().getStartZ();
+        int minX = Math.max(centerX - BLOCK_RADIUS, chunkMinX);
+        int maxX = Math.min(centerX + BLOCK_RADIUS, chunkMinX + 15);
+        int minZ = Math.max(centerZ - BLOCK_RADIUS, chunkMinZ);
+        int maxZ = Math.min(centerZ + BLOCK_RADIUS, chunkMinZ + 15);
+        int radiusSq = BLOCK_RADIUS * BLOCK_RADIUS;
+
+        for (int x = minX; x <= maxX; x++) {
+            int dx = x - centerX;
+            for (int z = minZ; z <= maxZ; z++) {
+                int dz = z - centerZ;
+                for (int y = minY; y <= maxY; y++) {
+                    int dy = y - centerY;
+                    if (dx * dx + dy * dy + dz * dz > radiusSq) continue;
+
+                    BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                    if (state.isAir() || !canDestroy(state)) continue;
+
+                    clearer.clear(chunk, section, x, y, z, state);
+                }
+            }
+        }
+
+        clearer.endSection(chunk, section, sectionY);
+    }
+
+    /**
+     * Unbreakable blocks, blast-proof blocks and anything holding liquid survive.
+     */
+    private static boolean canDestroy(BlockState state) {
+        if (state.getBlock().getHardness() < 0) {
+            return false;
+        }
+        float resistance = Math.max(state.getBlock().getBlastResistance(), state.getFluidState().getBlastResistance());
+        return resistance < MAX_BLAST_RESISTANCE;
+    }
+}
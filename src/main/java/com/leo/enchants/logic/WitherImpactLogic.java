@@ -2,8 +2,6 @@ package com.leo.enchants.logic;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.player.PlayerEntity;
@@ -17,14 +15,11 @@ import net.minecraft.util.Hand;
 import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
-import net.minecraft.world.RaycastContext;
 import net.minecraft.world.World;
 import net.minecraft.world.explosion.Explosion;
 
 import java.util.Collections;
-import java.util.List;
 
 public class WitherImpactLogic {
 
@@ -45,20 +40,13 @@ public class WitherImpactLogic {
     }
 
     private static boolean teleport(PlayerEntity player, World world) {
-        Vec3d eyePos = player.getCameraPosVec(1.0f);
-        Vec3d lookVec = player.getRotationVector();
         double maxDistance = 8.0;
         
-        Vec3d endPos = eyePos.add(lookVec.multiply(maxDistance));
-        
-        // Raycast to find the first solid block
-        BlockHitResult hitResult = world.raycast(new RaycastContext(
-            eyePos,
-            endPos,
-            RaycastContext.ShapeType.COLLIDER,
-            RaycastContext.FluidHandling.NONE,
-            player
-        ));
+        // Find the first solid block
+        LookTargetResolver.LookTarget look = LookTargetResolver.resolve(player, maxDistance);
+        Vec3d eyePos = look.eye();
+        Vec3d lookVec = look.look();
+        BlockHitResult hitResult = look.blockHit();
         
         Vec3d targetPos = null;
         
@@ -95,30 +83,23 @@ public class WitherImpactLogic {
     }
     
     private static Vec3d findValidAirPosition(World world, Vec3d start, Vec3d direction, double maxDistance) {
-        // Step through the path to find the furthest valid position
+        // A point along the path is valid while the blocks at feet and head are passable;
+        // walk both rows once and stop at the first obstacle in either
+        VoxelTraversal.Visitor passable = (pos, state, tEnter, tExit, uniform) -> isPassableBlock(state);
+        double feetClear = VoxelTraversal.traverse(world, start.x, start.y, start.z,
+            direction.x, direction.y, direction.z, maxDistance, passable);
+        double headClear = VoxelTraversal.traverse(world, start.x, start.y + 1, start.z,
+            direction.x, direction.y, direction.z, feetClear, passable);
+        
+        // Furthest 0.5-block step before the obstacle
         double stepSize = 0.5;
-        int steps = (int) (maxDistance / stepSize);
-        Vec3d lastValidPosition = null;
-        
-        for (int i = 1; i <= steps; i++) {
-            double distance = i * stepSize;
-            Vec3d checkPos = start.add(direction.multiply(distance));
-            
-            BlockPos feetPos = new BlockPos((int) Math.floor(checkPos.x), (int) Math.floor(checkPos.y), (int) Math.floor(checkPos.z));
-            BlockPos headPos = feetPos.up();
-            
-            BlockState feetBlock = world.getBlockState(feetPos);
-            BlockState headBlock = world.getBlockState(headPos);
-            
-            if (isPassableBlock(feetBlock) && isPassableBlock(headBlock)) {
-                lastValidPosition = checkPos;
-            } else {
-                // Hit obstacle, stop
-                break;
-            }
+        int steps = headClear >= maxDistance
+            ? (int) (maxDistance / stepSize)
+            : (int) Math.ceil(headClear / stepSize) - 1;
+        if (steps < 1) {
+            return null;
         }
-        
-        return lastValidPosition;
+        return start.add(direction.multiply(steps * stepSize));
     }
     
     private static Vec3d getSurfacePosition(World world, BlockPos blockPos, net.minecraft.util.math.Direction side) {
@@ -165,35 +146,14 @@ public class WitherImpactLogic {
     }
 
     private static void createExplosion(PlayerEntity player, World world, int level) {
-        // Increased explosion power
-        float power = 5.0f; // Level 1: 5.0 (was 4.0)
-        if (level >= 2) power = 6.0f; // Level 2: 6.0
-        if (level >= 3) power = 7.0f; // Level 3: 7.0
-        
-        boolean breakBlocks = (level >= 3);
-        
         if (!(world instanceof ServerWorld serverWorld)) return;
 
         // Visuals and Sound
         serverWorld.spawnParticles(ParticleTypes.EXPLOSION, player.getX(), player.getY(), player.getZ(), 1, 0, 0, 0, 0);
         world.playSound(null, player.getX(), player.getY(), player.getZ(), SoundEvents.ENTITY_GENERIC_EXPLODE, SoundCategory.PLAYERS, 1.0f, 1.0f);
 
-        // Damage Entities
-        double radius = 6.0;
-        List<Entity> entities = world.getOtherEntities(player, player.getBoundingBox().expand(radius));
-        for (Entity entity : entities) {
-            if (entity instanceof LivingEntity) {
-                float damage = 10.0f;
-                if (level >= 2) damage += 5.0f;
-                
-                entity.damage(serverWorld, player.getDamageSources().explosion(null), damage);
-            }
-        }
-
-        // Break Blocks (Level 3 only)
-        if (breakBlocks) {
-            world.createExplosion(player, player.getX(), player.getY(), player.getZ(), power, World.ExplosionSourceType.MOB);
-        }
+        // Damage Entities, and Break Blocks at level 3 (merged with the player's blasts in quick succession)
+        WitherImpactBlast.queue(player, serverWorld, level);
     }
     
     private static void reduceDurability(PlayerEntity player, int level) {
@@ -1,5 +1,6 @@
 package com.leo.enchants.mixin;
 
+import com.leo.enchants.accessor.HeavyArrowAccessor;
 import com.leo.enchants.accessor.MagnifyArrowAccessor;
 import net.minecraft.component.DataComponentTypes;
 import net.minecraft.component.type.ItemEnchantmentsComponent;
@@ -7,22 +8,22 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.projectile.PersistentProjectileEntity;
 import net.minecraft.item.ItemStack;
-import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Hand;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.hit.EntityHitResult;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
 
 /**
- * Mixin to apply bonus damage for Magnify enchantment on arrow hit.
- * Damage multipliers (applied on top of all existing damage including Power):
+ * Mixin that folds arrow bonus damage into the arrow's own damage computation.
+ * Both bonuses are applied to the single vanilla damage call, so the target only
+ * receives one damage event (one hurt animation, one armor pass, one i-frame check).
+ * Magnify multipliers (applied on top of all existing damage including Power):
  * - Level 1: +100% (2x total)
  * - Level 2: +150% (2.5x total)
  * - Level 3: +200% (3x total)
+ * Heavy skeleton arrows add a further +200% (3x total on their own).
  */
 @Mixin(PersistentProjectileEntity.class)
 public abstract class ArrowEntityMixin {
@@ -30,13 +31,25 @@ public abstract class ArrowEntityMixin {
     @Unique
     private static final Identifier MAGNIFY_ID = Identifier.of("leo_enchants", "magnify");
     
+    @Unique
+    private static final float HEAVY_ARROW_BONUS = 2.0f;
+    
     /**
-     * Apply bonus damage when the arrow hits an entity.
-     * We apply additional damage equal to a percentage of what would have been dealt.
+     * Scale the damage passed to the vanilla hit by the combined Magnify and Heavy bonuses.
+     * The vanilla amount already includes velocity, Power and critical hits.
      */
-    @Inject(method = "onEntityHit", at = @At("HEAD"))
-    private void applyMagnifyDamage(EntityHitResult entityHitResult, CallbackInfo ci) {
+    @ModifyArg(
+        method = "onEntityHit",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/Entity;sidedDamage(Lnet/minecraft/entity/damage/DamageSource;F)Z"),
+        index = 1
+    )
+    private float applyBonusDamage(float amount) {
         PersistentProjectileEntity self = (PersistentProjectileEntity) (Object) this;
+        if (self.getWorld().isClient() || amount <= 0) {
+            return amount;
+        }
+        
+        float bonusMultiplier = 0.0f;
         
         // Get the magnify level from the arrow
         int level = 0;
@@ -52,32 +65,20 @@ public abstract class ArrowEntityMixin {
             }
         }
         
-        if (level <= 0) {
-            return;
+        if (level > 0) {
+            // Level 1: +100%, Level 2: +150%, Level 3: +200%
+            bonusMultiplier += 0.5f + (level * 0.5f);
         }
         
-        Entity target = entityHitResult.getEntity();
-        if (target == null || !(target.getWorld() instanceof ServerWorld serverWorld)) {
-            return;
+        // Heavy skeleton arrows deal 2x extra damage (total 3x)
+        if (self instanceof HeavyArrowAccessor heavy && heavy.leo_enchants$isHeavyArrow()) {
+            bonusMultiplier += HEAVY_ARROW_BONUS;
         }
         
-        // Calculate bonus damage multiplier:
-        // Level 1: +100% (multiply by 1.0)
-        // Level 2: +150% (multiply by 1.5)
-        // Level 3: +200% (multiply by 2.0)
-        float bonusMultiplier = 0.5f + (level * 0.5f); // 1.0, 1.5, 2.0
-        
-        // Get the arrow's current damage (includes Power enchantment effects)
-        // Arrow damage is typically 2.0 base, modified by velocity and Power
-        // We'll estimate the damage and apply bonus
-        double arrowDamage = self.getVelocity().length() * 2.0; // Approximate arrow damage formula
-        
-        // Apply the bonus damage
-        float bonusDamage = (float) (arrowDamage * bonusMultiplier);
-        
-        if (target instanceof LivingEntity livingTarget && bonusDamage > 0) {
-            livingTarget.damage(serverWorld, self.getDamageSources().arrow(self, self.getOwner()), bonusDamage);
+        if (bonusMultiplier <= 0.0f) {
+            return amount;
         }
+        return amount * (1.0f + bonusMultiplier);
     }
     
     @Unique
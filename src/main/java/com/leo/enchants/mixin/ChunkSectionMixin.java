@@ -0,0 +1,27 @@
+package com.leo.enchants.mixin;
+
+import com.leo.enchants.accessor.ChunkSectionVersionAccessor;
+import net.minecraft.world.chunk.ChunkSection;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+/**
+ * Mixin to give chunk sections a change counter, so cached block scans know when to rescan.
+ * Only writes to loaded server chunks count (see WorldChunkMixin); they all happen on the server thread.
+ */
+@Mixin(ChunkSection.class)
+public abstract class ChunkSectionMixin implements ChunkSectionVersionAccessor {
+    
+    @Unique
+    private int leo_enchants$version;
+    
+    @Override
+    public int leo_enchants$getVersion() {
+        return leo_enchants$version;
+    }
+    
+    @Override
+    public void leo_enchants$bumpVersion() {
+        leo_enchants$version++;
+    }
+}
@@ -12,15 +12,15 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 /**
- * Mixin to add missile mode data tracking to creepers for client-side rendering.
+ * Mixin to add missile state data tracking to creepers for client-side rendering and effects.
  */
 @Mixin(CreeperEntity.class)
 public abstract class CreeperMissileDataMixin implements MissileCreeperAccessor {
     
     @Unique
-    private static final TrackedData<Boolean> MISSILE_MODE = DataTracker.registerData(
+    private static final TrackedData<Byte> MISSILE_STATE = DataTracker.registerData(
         CreeperEntity.class, 
-        TrackedDataHandlerRegistry.BOOLEAN
+        TrackedDataHandlerRegistry.BYTE
     );
     
     @Unique
@@ -31,20 +31,20 @@ public abstract class CreeperMissileDataMixin implements MissileCreeperAccessor
     
     @Inject(method = "initDataTracker", at = @At("TAIL"))
     private void initMissileData(DataTracker.Builder builder, CallbackInfo ci) {
-        builder.add(MISSILE_MODE, false);
+        builder.add(MISSILE_STATE, STATE_IDLE);
         builder.add(MISSILE_PITCH, 0.0F);
     }
     
     @Override
-    public void leo_enchants$setMissileMode(boolean active) {
+    public void leo_enchants$setMissileState(byte state) {
         CreeperEntity self = (CreeperEntity) (Object) this;
-        self.getDataTracker().set(MISSILE_MODE, active);
+        self.getDataTracker().set(MISSILE_STATE, state);
     }
     
     @Override
-    public boolean leo_enchants$isMissileMode() {
+    public byte leo_enchants$getMissileState() {
         CreeperEntity self = (CreeperEntity) (Object) this;
-        return self.getDataTracker().get(MISSILE_MODE);
+        return self.getDataTracker().get(MISSILE_STATE);
     }
     
     @Override
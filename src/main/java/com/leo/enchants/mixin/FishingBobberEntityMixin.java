@@ -186,7 +186,7 @@ public abstract class FishingBobberEntityMixin implements HookshotBobberAccessor
         // Only pull if there's meaningful distance
         if (distance > 1.5) {
             // Execute the grab/grapple logic
-            GrabHandler.pullPlayerToBobber(player, bobberPos, distance);
+            GrabHandler.pullPlayerToBobber(player, bobberPos);
             
             // Consume 5 durability on the fishing rod (server-side only)
             if (player instanceof ServerPlayerEntity serverPlayer) {
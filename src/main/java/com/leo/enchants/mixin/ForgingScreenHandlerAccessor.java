@@ -0,0 +1,16 @@
+package com.leo.enchants.mixin;
+
+import net.minecraft.inventory.Inventory;
+import net.minecraft.screen.ForgingScreenHandler;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Generated accessor for the forging input inventory (anvil / smithing table inputs).
+ */
+@Mixin(ForgingScreenHandler.class)
+public interface ForgingScreenHandlerAccessor {
+    
+    @Accessor("input")
+    Inventory leo_enchants$getInput();
+}
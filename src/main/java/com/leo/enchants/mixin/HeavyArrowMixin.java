@@ -1,18 +1,13 @@
 package com.leo.enchants.mixin;
 
 import com.leo.enchants.accessor.HeavyArrowAccessor;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.data.DataTracker;
 import net.minecraft.entity.data.TrackedData;
 import net.minecraft.entity.data.TrackedDataHandlerRegistry;
-import net.minecraft.entity.mob.AbstractSkeletonEntity;
 import net.minecraft.entity.player.PlayerEntity;
-import net.minecraft.entity.projectile.ArrowEntity;
 import net.minecraft.entity.projectile.PersistentProjectileEntity;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.util.hit.EntityHitResult;
 import net.minecraft.util.math.Vec3d;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -24,7 +19,7 @@ import java.util.UUID;
 
 /**
  * Mixin to track enhanced skeleton arrows:
- * - 33.3% chance: Heavy arrow (3x damage, considering Power enchantment)
+ * - 33.3% chance: Heavy arrow (3x damage, considering Power enchantment; applied in ArrowEntityMixin)
  * - 33.3% chance: Double shot (handled in SkeletonEntityMixin)
  * - 33.3% chance: Tracking arrow (homes in on the target player)
  */
@@ -173,32 +168,4 @@ public abstract class HeavyArrowMixin implements HeavyArrowAccessor {
             );
         }
     }
-    
-    /**
-     * Apply 3x damage for heavy arrows when hitting an entity (2x bonus damage on top of normal)
-     */
-    @Inject(method = "onEntityHit", at = @At("HEAD"))
-    private void applyHeavyArrowDamage(EntityHitResult entityHitResult, CallbackInfo ci) {
-        PersistentProjectileEntity self = (PersistentProjectileEntity) (Object) this;
-        
-        if (!leo_enchants$isHeavyArrow()) {
-            return;
-        }
-        
-        Entity target = entityHitResult.getEntity();
-        if (target == null || !(target.getWorld() instanceof ServerWorld serverWorld)) {
-            return;
-        }
-        
-        // Heavy arrow deals 2x extra damage (total 3x)
-        // Arrow damage is based on velocity - this includes Power enchantment effects
-        // since Power increases velocity/damage through vanilla mechanics
-        double arrowDamage = self.getVelocity().length() * 2.0;
-        
-        if (target instanceof LivingEntity livingTarget) {
-            // Apply 2x bonus damage (original + 2x bonus = 3x total)
-            float bonusDamage = (float) (arrowDamage * 2.0);
-            livingTarget.damage(serverWorld, self.getDamageSources().arrow(self, self.getOwner()), bonusDamage);
-        }
-    }
 }
@@ -0,0 +1,26 @@
+package com.leo.enchants.mixin;
+
+import com.leo.enchants.logic.MovementAbilities;
+import net.minecraft.network.packet.c2s.play.PlayerMoveC2SPacket;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin to let Double Jump see every move the server accepts, not just where the player is at the end of a tick.
+ */
+@Mixin(ServerPlayNetworkHandler.class)
+public abstract class ServerPlayNetworkHandlerMixin {
+    
+    @Shadow
+    public ServerPlayerEntity player;
+    
+    @Inject(method = "onPlayerMove", at = @At("RETURN"))
+    private void rearmDoubleJumpOnLanding(PlayerMoveC2SPacket packet, CallbackInfo ci) {
+        MovementAbilities.onMove(player);
+    }
+}
@@ -1,6 +1,7 @@
 package com.leo.enchants.mixin;
 
 import com.leo.enchants.accessor.HeavyArrowAccessor;
+import com.leo.enchants.monster.EnhancementBudget;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.mob.AbstractSkeletonEntity;
@@ -51,6 +52,9 @@ public abstract class SkeletonEntityMixin extends HostileEntity {
         
         if (world.isClient()) return;
         
+        // Skip enhancements while the server is running behind
+        if (EnhancementBudget.isServerBehind(world)) return;
+        
         // Roll for enhancement type (33.3% each)
         int enhancement = world.random.nextInt(3);
         
@@ -0,0 +1,34 @@
+package com.leo.enchants.mixin;
+
+import com.leo.enchants.logic.SectionVersions;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+/**
+ * Mixin to bump a section's change counter when a block in a loaded server chunk changes.
+ */
+@Mixin(WorldChunk.class)
+public abstract class WorldChunkMixin {
+    
+    @Shadow
+    @Final
+    World world;
+    
+    @Inject(method = "setBlockState", at = @At("RETURN"))
+    private void bumpSectionVersion(BlockPos pos, BlockState state, int flags, CallbackInfoReturnable<BlockState> cir) {
+        // Null means nothing changed
+        if (cir.getReturnValue() == null || world.isClient()) {
+            return;
+        }
+        WorldChunk self = (WorldChunk) (Object) this;
+        SectionVersions.bump(self.getSection(self.getSectionIndex(pos.getY())));
+    }
+}
@@ -0,0 +1,49 @@
+package com.leo.enchants.mixin.client;
+
+import com.leo.enchants.accessor.MissileCreeperAccessor;
+import com.leo.enchants.client.MissileCreeperEffects;
+import net.minecraft.entity.mob.CreeperEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+/**
+ * Mixin to play missile creeper charge and flight effects on the client.
+ * The server only syncs the missile state; charge progress is counted here
+ * from the tick the state last changed.
+ */
+@Mixin(CreeperEntity.class)
+public class CreeperMissileEffectsMixin {
+    
+    @Unique
+    private byte leo_enchants$lastMissileState = MissileCreeperAccessor.STATE_IDLE;
+    
+    @Unique
+    private int leo_enchants$missileStateTicks = 0;
+    
+    @Inject(method = "tick", at = @At("TAIL"))
+    private void tickMissileEffects(CallbackInfo ci) {
+        CreeperEntity creeper = (CreeperEntity) (Object) this;
+        if (!creeper.getWorld().isClient() || !(creeper instanceof MissileCreeperAccessor accessor)) {
+            return;
+        }
+        
+        byte state = accessor.leo_enchants$getMissileState();
+        if (state != leo_enchants$lastMissileState) {
+            leo_enchants$lastMissileState = state;
+            leo_enchants$missileStateTicks = 0;
+        }
+        if (state == MissileCreeperAccessor.STATE_IDLE) {
+            return;
+        }
+        
+        leo_enchants$missileStateTicks++;
+        if (state == MissileCreeperAccessor.STATE_CHARGING) {
+            MissileCreeperEffects.tickCharging(creeper, leo_enchants$missileStateTicks);
+        } else if (state == MissileCreeperAccessor.STATE_FLYING) {
+            MissileCreeperEffects.tickFlying(creeper);
+        }
+    }
+}
@@ -4,12 +4,16 @@ import com.leo.enchants.accessor.MissileCreeperAccessor;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.mob.CreeperEntity;
-import net.minecraft.particle.ParticleTypes;
-import net.minecraft.server.world.ServerWorld;
+import net.minecraft.entity.projectile.ProjectileUtil;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
+import net.minecraft.util.hit.BlockHitResult;
+import net.minecraft.util.hit.EntityHitResult;
+import net.minecraft.util.hit.HitResult;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.RaycastContext;
+import net.minecraft.world.World;
 
 import java.util.EnumSet;
 
@@ -29,13 +33,21 @@ public class CreeperMissileGoal extends Goal {
     private int flightTimer = 0;
     
     // Timings
-    private static final int CHARGE_TIME = 40; // 2 seconds before launch
+    public static final int CHARGE_TIME = 40; // 2 seconds before launch (also used by the client effects)
     private static final int MAX_FLIGHT_TIME = 100; // 5 seconds max flight
     private static final double FLIGHT_SPEED = 0.9;
     private static final double ARRIVAL_DISTANCE = 2.5;
+    private static final float PITCH_SYNC_THRESHOLD = 2.0F; // Degrees of pitch change before re-syncing
+    private static final double HEADING_RESYNC_COS = 0.995; // Re-send velocity once heading turns ~6 degrees
+    private static final double MAX_LEAD_TICKS = 20.0; // Don't extrapolate the target more than 1 second
+    private static final int LAUNCH_GRACE_TICKS = 8; // Ignore terrain right after launch (ledges, walls, own footing)
     
     // Target tracking
     private LivingEntity missileTarget = null;
+    private Vec3d lastTargetPos = null;
+    
+    // Last velocity sent to clients during flight
+    private Vec3d sentVelocity = null;
     
     // Track if this creeper has already rolled for missile mode
     private boolean hasRolled = false;
@@ -66,18 +78,17 @@ public class CreeperMissileGoal extends Goal {
             return false;
         }
         
-        // Roll only ONCE per target acquisition
+        // Roll only ONCE per target acquisition (deferred while the server is behind)
         if (!hasRolled) {
+            if (EnhancementBudget.isServerBehind(creeper.getWorld())) {
+                return false;
+            }
             hasRolled = true;
             isMissileCreeper = creeper.getWorld().random.nextBoolean(); // 50% chance
         }
         
-        if (isMissileCreeper) {
-            missileTarget = target;
-            return true;
-        }
-        
-        return false;
+        // Wait for a free missile slot against this target (taken in start, once the goal really runs)
+        return isMissileCreeper && EnhancementBudget.hasMissileSlot(creeper, target);
     }
     
     @Override
@@ -85,7 +96,7 @@ public class CreeperMissileGoal extends Goal {
         // Always continue if flying or charging - we're committed
         if (state == State.FLYING) {
             if (flightTimer > MAX_FLIGHT_TIME) {
-                explode();
+                explode(creeper.getPos());
                 return false;
             }
             return true;
@@ -105,11 +116,15 @@ public class CreeperMissileGoal extends Goal {
     
     @Override
     public void start() {
-        if (state == State.IDLE && missileTarget != null) {
+        LivingEntity target = creeper.getTarget();
+        if (state == State.IDLE && target != null && EnhancementBudget.tryAcquireMissile(creeper, target)) {
+            missileTarget = target;
+            
             // Begin charging phase
             state = State.CHARGING;
             chargeTimer = 0;
             flightTimer = 0;
+            syncMissileState();
             
             // DON'T call ignite() - that triggers normal explosion!
             // Just play warning sound
@@ -135,41 +150,17 @@ public class CreeperMissileGoal extends Goal {
         
         // Stop all movement during charge
         creeper.getNavigation().stop();
-        creeper.setVelocity(0, Math.min(0, creeper.getVelocity().y), 0); // Only allow falling
-        creeper.velocityModified = true;
+        Vec3d current = creeper.getVelocity();
+        if (current.x != 0 || current.z != 0 || current.y > 0) {
+            creeper.setVelocity(0, Math.min(0, current.y), 0); // Only allow falling
+            creeper.velocityModified = true;
+        }
         
         // Rotate body and head toward target
         if (missileTarget != null && missileTarget.isAlive()) {
             rotateTowardTarget(missileTarget);
         }
         
-        // Spawn charging particles - getting more intense
-        if (creeper.getWorld() instanceof ServerWorld serverWorld) {
-            int particleCount = 3 + (chargeTimer / 10);
-            serverWorld.spawnParticles(ParticleTypes.FLAME,
-                creeper.getX(), creeper.getY() + 0.8, creeper.getZ(),
-                particleCount, 0.3, 0.4, 0.3, 0.02);
-            
-            // Smoke particles
-            serverWorld.spawnParticles(ParticleTypes.SMOKE,
-                creeper.getX(), creeper.getY() + 1.2, creeper.getZ(),
-                2, 0.2, 0.3, 0.2, 0.01);
-            
-            // Soul fire particles near the end of charge
-            if (chargeTimer > CHARGE_TIME - 10) {
-                serverWorld.spawnParticles(ParticleTypes.SOUL_FIRE_FLAME,
-                    creeper.getX(), creeper.getY() + 0.5, creeper.getZ(),
-                    3, 0.2, 0.2, 0.2, 0.05);
-            }
-        }
-        
-        // Play tick sound periodically
-        if (chargeTimer % 10 == 0) {
-            creeper.getWorld().playSound(null, creeper.getX(), creeper.getY(), creeper.getZ(),
-                SoundEvents.BLOCK_NOTE_BLOCK_HAT.value(), SoundCategory.HOSTILE, 0.5F, 
-                1.0F + (chargeTimer / (float) CHARGE_TIME));
-        }
-        
         // Launch when charged
         if (chargeTimer >= CHARGE_TIME) {
             launch();
@@ -179,6 +170,9 @@ public class CreeperMissileGoal extends Goal {
     private void launch() {
         state = State.FLYING;
         flightTimer = 0;
+        lastTargetPos = null;
+        sentVelocity = null;
+        syncMissileState();
         
         // Disable gravity for flight
         creeper.setNoGravity(true);
@@ -203,62 +197,103 @@ public class CreeperMissileGoal extends Goal {
         // Keep resetting fuse
         creeper.setFuseSpeed(-1);
         
-        // Calculate direction to target
-        Vec3d targetPos;
-        if (missileTarget != null && missileTarget.isAlive()) {
-            targetPos = missileTarget.getPos().add(0, missileTarget.getHeight() / 2, 0);
-        } else {
+        if (missileTarget == null || !missileTarget.isAlive()) {
             // Target died/gone - explode immediately
-            explode();
+            explode(creeper.getPos());
             return;
         }
         
+        // Aim where the target will be when we arrive
         Vec3d creeperPos = creeper.getPos().add(0, creeper.getHeight() / 2, 0);
-        Vec3d direction = targetPos.subtract(creeperPos).normalize();
-        
-        // Apply velocity toward target
-        Vec3d velocity = direction.multiply(FLIGHT_SPEED);
-        creeper.setVelocity(velocity);
-        creeper.velocityModified = true;
+        Vec3d aimPos = predictTargetPos(creeperPos);
+        Vec3d velocity = aimPos.subtract(creeperPos).normalize().multiply(FLIGHT_SPEED);
+        
+        // Only send a velocity update when the heading changes noticeably;
+        // otherwise just restore full speed after air drag on the server
+        if (sentVelocity == null || sentVelocity.normalize().dotProduct(velocity.normalize()) < HEADING_RESYNC_COS) {
+            sentVelocity = velocity;
+            creeper.velocityModified = true;
+        }
+        creeper.setVelocity(sentVelocity);
         
         // Rotate body and head toward target
         rotateTowardTarget(missileTarget);
         
-        // Spawn trail particles
-        if (creeper.getWorld() instanceof ServerWorld serverWorld) {
-            // Fire trail
-            serverWorld.spawnParticles(ParticleTypes.FLAME,
-                creeper.getX(), creeper.getY() + 0.5, creeper.getZ(),
-                10, 0.2, 0.3, 0.2, 0.08);
-            
-            // Smoke trail
-            serverWorld.spawnParticles(ParticleTypes.LARGE_SMOKE,
-                creeper.getX(), creeper.getY(), creeper.getZ(),
-                5, 0.3, 0.3, 0.3, 0.02);
-        }
-        
         // Check arrival
         double distanceToTarget = creeper.distanceTo(missileTarget);
         if (distanceToTarget <= ARRIVAL_DISTANCE) {
-            explode();
+            explode(creeper.getPos());
+            return;
+        }
+        
+        // Detonate on anything along this tick's flight segment, before vanilla movement
+        // (terrain only once clear of the launch point)
+        Vec3d hit = sweepFlightSegment(creeperPos, creeperPos.add(sentVelocity), flightTimer > LAUNCH_GRACE_TICKS);
+        if (hit != null) {
+            explode(hit.subtract(0, creeper.getHeight() / 2, 0));
             return;
         }
         
         // Timeout explosion
         if (flightTimer > MAX_FLIGHT_TIME) {
-            explode();
+            explode(creeper.getPos());
             return;
         }
         
-        // Wall collision (after brief launch period)
-        if (flightTimer > 8 && (creeper.horizontalCollision || creeper.verticalCollision)) {
-            explode();
+        // Wall collision from the previous move (after brief launch period)
+        if (flightTimer > LAUNCH_GRACE_TICKS && (creeper.horizontalCollision || creeper.verticalCollision)) {
+            explode(creeper.getPos());
         }
     }
     
+    /**
+     * Lead the target: estimate its velocity from its last position and aim where
+     * it will be after the flight time, capped so sudden turns don't send us off course.
+     */
+    private Vec3d predictTargetPos(Vec3d creeperPos) {
+        Vec3d targetPos = missileTarget.getPos().add(0, missileTarget.getHeight() / 2, 0);
+        Vec3d targetVelocity = lastTargetPos == null ? Vec3d.ZERO : targetPos.subtract(lastTargetPos);
+        lastTargetPos = targetPos;
+        
+        double ticksToArrive = Math.min(creeperPos.distanceTo(targetPos) / FLIGHT_SPEED, MAX_LEAD_TICKS);
+        return targetPos.add(targetVelocity.multiply(ticksToArrive));
+    }
+    
+    /**
+     * Check the segment we're about to fly along for blocks and entities.
+     * @param checkBlocks false to only look for entities
+     * @return the first hit position, or null if the path is clear
+     */
+    private Vec3d sweepFlightSegment(Vec3d from, Vec3d to, boolean checkBlocks) {
+        World world = creeper.getWorld();
+        
+        BlockHitResult blockHit = null;
+        if (checkBlocks) {
+            blockHit = world.raycast(new RaycastContext(
+                from, to, RaycastContext.ShapeType.COLLIDER, RaycastContext.FluidHandling.NONE, creeper));
+            if (blockHit.getType() != HitResult.Type.MISS) {
+                to = blockHit.getPos();
+            } else {
+                blockHit = null;
+            }
+        }
+        
+        // Entities are widened by our half-width so the whole body is swept, not just the center
+        EntityHitResult entityHit = ProjectileUtil.getEntityCollision(
+            world, creeper, from, to,
+            creeper.getBoundingBox().stretch(to.subtract(from)).expand(1.0),
+            entity -> entity instanceof LivingEntity && entity.isAlive() && !entity.isSpectator(),
+            (float) (creeper.getWidth() / 2));
+        if (entityHit != null) {
+            return entityHit.getPos();
+        }
+        
+        return blockHit != null ? blockHit.getPos() : null;
+    }
+    
     /**
      * Rotate the creeper's body and head to face the target.
-     * Also sets missile mode data for client-side body tilt rendering.
+     * Also syncs the missile pitch for client-side body tilt rendering.
      */
     private void rotateTowardTarget(LivingEntity target) {
         double dx = target.getX() - creeper.getX();
@@ -282,14 +317,28 @@ public class CreeperMissileGoal extends Goal {
         creeper.setHeadYaw(targetYaw);
         creeper.setPitch(MathHelper.clamp(targetPitch, -90.0F, 90.0F));
         
-        // Set missile mode data for client-side rendering (body tilt)
-        if (creeper instanceof MissileCreeperAccessor accessor) {
-            accessor.leo_enchants$setMissileMode(state == State.CHARGING || state == State.FLYING);
+        // Sync pitch for client-side rendering (body tilt), only when it changed noticeably
+        if (creeper instanceof MissileCreeperAccessor accessor
+            && Math.abs(accessor.leo_enchants$getMissilePitch() - targetPitch) > PITCH_SYNC_THRESHOLD) {
             accessor.leo_enchants$setMissilePitch(targetPitch);
         }
     }
     
-    private void explode() {
+    /**
+     * Sync the missile state to clients. The client plays the charge and
+     * flight effects from this, so it only changes at start, launch and stop.
+     */
+    private void syncMissileState() {
+        if (creeper instanceof MissileCreeperAccessor accessor) {
+            accessor.leo_enchants$setMissileState(switch (state) {
+                case IDLE -> MissileCreeperAccessor.STATE_IDLE;
+                case CHARGING -> MissileCreeperAccessor.STATE_CHARGING;
+                case FLYING -> MissileCreeperAccessor.STATE_FLYING;
+            });
+        }
+    }
+    
+    private void explode(Vec3d pos) {
         // Reset gravity first
         creeper.setNoGravity(false);
         
@@ -299,18 +348,22 @@ public class CreeperMissileGoal extends Goal {
             
             creeper.getWorld().createExplosion(
                 creeper,
-                creeper.getX(),
-                creeper.getY() + 0.5,
-                creeper.getZ(),
+                pos.x,
+                pos.y + 0.5,
+                pos.z,
                 explosionPower,
                 false,
-                net.minecraft.world.World.ExplosionSourceType.MOB
+                World.ExplosionSourceType.MOB
             );
             
             // Remove the creeper
             creeper.discard();
         }
         
+        if (missileTarget != null) {
+            EnhancementBudget.releaseMissile(creeper, missileTarget);
+        }
+        
         state = State.IDLE;
     }
     
@@ -319,16 +372,21 @@ public class CreeperMissileGoal extends Goal {
         // Reset gravity if flying
         creeper.setNoGravity(false);
         
-        // Reset missile mode for rendering
-        if (creeper instanceof MissileCreeperAccessor accessor) {
-            accessor.leo_enchants$setMissileMode(false);
-            accessor.leo_enchants$setMissilePitch(0.0F);
+        if (missileTarget != null) {
+            EnhancementBudget.releaseMissile(creeper, missileTarget);
         }
         
+        // Reset missile state for rendering and client effects
         state = State.IDLE;
+        syncMissileState();
+        if (creeper instanceof MissileCreeperAccessor accessor) {
+            accessor.leo_enchants$setMissilePitch(0.0F);
+        }
         chargeTimer = 0;
         flightTimer = 0;
         missileTarget = null;
+        lastTargetPos = null;
+        sentVelocity = null;
         // Keep hasRolled and isMissileCreeper to remember the roll
     }
 }
@@ -0,0 +1,199 @@
+package com.leo.enchants.monster;
+
+import com.leo.enchants.LeoEnchantsMod;
+import net.fabricmc.fabric.api.gamerule.v1.GameRuleFactory;
+import net.fabricmc.fabric.api.gamerule.v1.GameRuleRegistry;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.mob.MobEntity;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Per-world budget for the enhanced mob behaviors (builder zombies, missile creepers, skeleton shots).
+ *
+ * - Path searches share a per-tick time budget. When several players are being
+ *   hunted, each gets an equal share, so one player's mob farm can't starve another.
+ * - Only a few creepers may be charging or flying at the same player at once.
+ * - Enhancement rolls are deferred while the server is running behind.
+ */
+public final class EnhancementBudget {
+
+    // /gamerule leoEnchantsPathfindingMicros <n> - path search time per world per tick
+    public static final GameRules.Key<GameRules.IntRule> PATHFINDING_MICROS_PER_TICK = GameRuleRegistry.register(
+        "leoEnchantsPathfindingMicros", GameRules.Category.MOBS, GameRuleFactory.createIntRule(2000, 0));
+
+    // /gamerule leoEnchantsMissilesPerPlayer <n> - concurrent missile creepers per target
+    public static final GameRules.Key<GameRules.IntRule> MISSILES_PER_PLAYER = GameRuleRegistry.register(
+        "leoEnchantsMissilesPerPlayer", GameRules.Category.MOBS, GameRuleFactory.createIntRule(2, 0));
+
+    // World -> budget state (weak so unloaded worlds are dropped)
+    private static final Map<World, WorldBudget> BUDGETS = new WeakHashMap<>();
+
+    private EnhancementBudget() {}
+
+    /**
+     * Load the class so the gamerules are registered during mod init.
+     */
+    public static void register() {
+        LeoEnchantsMod.LOGGER.info("Registering Mob Enhancement Budget for " + LeoEnchantsMod.MOD_ID);
+    }
+
+    private static final class WorldBudget {
+        // Pathfinding, reset every tick
+        private long tick = Long.MIN_VALUE;
+        private long nanosUsed;
+        private final Map<UUID, Long> nanosByTarget = new HashMap<>();
+        private Set<UUID> requesters = new HashSet<>();
+        private Set<UUID> lastRequesters = new HashSet<>();
+
+        // Target UUID -> creepers currently charging or flying at it
+        private final Map<UUID, List<MobEntity>> missiles = new HashMap<>();
+
+        private void roll(long time) {
+            if (tick == time) {
+                return;
+            }
+            // Players that asked last tick split this tick's budget
+            lastRequesters = requesters;
+            requesters = new HashSet<>();
+            nanosByTarget.clear();
+            nanosUsed = 0;
+            tick = time;
+        }
+    }
+
+    private static WorldBudget get(World world) {
+        WorldBudget budget = BUDGETS.computeIfAbsent(world, w -> new WorldBudget());
+        budget.roll(world.getTime());
+        return budget;
+    }
+
+    // ===== Pathfinding =====
+
+    /**
+     * Ask to run one path search against {@code target} this tick.
+     * Call {@link #chargeSearch} with the start time once the search is done.
+     * @return true if the caller may search now, false if it should wait
+     */
+    public static boolean tryAcquireSearch(World world, Entity target) {
+        if (world.isClient()) {
+            return false;
+        }
+
+        WorldBudget budget = get(world);
+        UUID targetId = target.getUuid();
+        budget.requesters.add(targetId);
+
+        long budgetNanos = ((ServerWorld) world).getGameRules().getInt(PATHFINDING_MICROS_PER_TICK) * 1000L;
+        if (budget.nanosUsed >= budgetNanos) {
+            return false;
+        }
+
+        // With several players under siege, each gets an equal share of the tick
+        int sharers = Math.max(1, budget.lastRequesters.size());
+        if (sharers > 1 && budget.nanosByTarget.getOrDefault(targetId, 0L) >= budgetNanos / sharers) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Record the time spent on a search granted by {@link #tryAcquireSearch}.
+     */
+    public static void chargeSearch(World world, Entity target, long startNanos) {
+        long spent = System.nanoTime() - startNanos;
+        WorldBudget budget = get(world);
+        budget.nanosUsed += spent;
+        budget.nanosByTarget.merge(target.getUuid(), spent, Long::sum);
+    }
+
+    // ===== Missile creepers =====
+
+    /**
+     * Check whether the creeper holds, or could take, a missile slot against {@code target}.
+     * Doesn't reserve anything; call {@link #tryAcquireMissile} once the goal actually starts.
+     */
+    public static boolean hasMissileSlot(MobEntity creeper, Entity target) {
+        World world = creeper.getWorld();
+        if (world.isClient()) {
+            return false;
+        }
+
+        List<MobEntity> active = getMissiles((ServerWorld) world, target);
+        return active.contains(creeper) || active.size() < missilesPerPlayer((ServerWorld) world);
+    }
+
+    /**
+     * Reserve a missile slot against {@code target}.
+     * @return true if the creeper may start charging
+     */
+    public static boolean tryAcquireMissile(MobEntity creeper, Entity target) {
+        World world = creeper.getWorld();
+        if (world.isClient()) {
+            return false;
+        }
+
+        List<MobEntity> active = getMissiles((ServerWorld) world, target);
+        if (active.contains(creeper)) {
+            return true;
+        }
+        if (active.size() >= missilesPerPlayer((ServerWorld) world)) {
+            return false;
+        }
+        active.add(creeper);
+        return true;
+    }
+
+    private static List<MobEntity> getMissiles(ServerWorld world, Entity target) {
+        List<MobEntity> active = get(world).missiles.computeIfAbsent(target.getUuid(), id -> new ArrayList<>());
+        // Creepers that died or exploded without stopping their goal free their slot here
+        active.removeIf(Entity::isRemoved);
+        return active;
+    }
+
+    private static int missilesPerPlayer(ServerWorld world) {
+        return world.getGameRules().getInt(MISSILES_PER_PLAYER);
+    }
+
+    /**
+     * Free the missile slot held by this creeper, if any.
+     */
+    public static void releaseMissile(MobEntity creeper, Entity target) {
+        WorldBudget budget = BUDGETS.get(creeper.getWorld());
+        if (budget == null) {
+            return;
+        }
+        List<MobEntity> active = budget.missiles.get(target.getUuid());
+        if (active != null) {
+            active.remove(creeper);
+            if (active.isEmpty()) {
+                budget.missiles.remove(target.getUuid());
+            }
+        }
+    }
+
+    // ===== Server load =====
+
+    /**
+     * Check if the server's average tick is slower than its target tick rate.
+     * Expensive enhancement rolls are skipped or deferred while this is true.
+     */
+    public static boolean isServerBehind(World world) {
+        MinecraftServer server = world.getServer();
+        if (server == null) {
+            return false;
+        }
+        return server.getAverageNanosPerTick() > server.getTickManager().getNanosPerTick();
+    }
+}
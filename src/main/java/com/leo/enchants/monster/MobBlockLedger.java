@@ -0,0 +1,57 @@
+package com.leo.enchants.monster;
+
+import com.leo.enchants.LeoEnchantsMod;
+import com.leo.enchants.attachment.BlockLedgerDecay;
+import com.leo.enchants.attachment.ChunkBlockLedger;
+import com.leo.enchants.attachment.ModAttachments;
+import net.fabricmc.fabric.api.gamerule.v1.GameRuleFactory;
+import net.fabricmc.fabric.api.gamerule.v1.GameRuleRegistry;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.chunk.WorldChunk;
+
+/**
+ * Keeps mob-placed blocks from piling up forever.
+ * Every block a builder zombie places is recorded in its chunk's {@link ChunkBlockLedger}
+ * (saved with the chunk). Each chunk holds at most {@link #MAX_BLOCKS_PER_CHUNK} blocks,
+ * and blocks decay back to what was there before after {@link #DECAY_TICKS}.
+ * Decay is time-sliced by {@link BlockLedgerDecay}.
+ */
+public final class MobBlockLedger {
+
+    // /gamerule leoEnchantsMobBlocksPerChunk <n> - oldest blocks are reverted once a chunk is full
+    public static final GameRules.Key<GameRules.IntRule> MAX_BLOCKS_PER_CHUNK = GameRuleRegistry.register(
+        "leoEnchantsMobBlocksPerChunk", GameRules.Category.MOBS, GameRuleFactory.createIntRule(64, 1));
+
+    // /gamerule leoEnchantsMobBlockDecayTicks <n> - how long a mob-placed block lasts
+    public static final GameRules.Key<GameRules.IntRule> DECAY_TICKS = GameRuleRegistry.register(
+        "leoEnchantsMobBlockDecayTicks", GameRules.Category.MOBS, GameRuleFactory.createIntRule(6000, 20));
+
+    private static final BlockLedgerDecay DECAY = new BlockLedgerDecay(ModAttachments.MOB_BLOCK_LEDGER);
+
+    private MobBlockLedger() {}
+
+    public static void register() {
+        LeoEnchantsMod.LOGGER.info("Registering Mob Block Ledger for " + LeoEnchantsMod.MOD_ID);
+        DECAY.register();
+    }
+
+    /**
+     * Record a block placed by a mob. If the chunk is at its cap, the oldest
+     * blocks in it are reverted first.
+     */
+    public static void recordPlacement(ServerWorld world, BlockPos pos, BlockState prior, BlockState placed) {
+        WorldChunk chunk = world.getWorldChunk(pos);
+        ChunkBlockLedger ledger = DECAY.getOrCreate(chunk);
+
+        int cap = world.getGameRules().getInt(MAX_BLOCKS_PER_CHUNK);
+        while (ledger.size() >= cap && !ledger.contains(pos.asLong())) {
+            DECAY.revert(world, ledger, ledger.oldest());
+        }
+
+        long expiresAt = world.getTime() + world.getGameRules().getInt(DECAY_TICKS);
+        DECAY.record(world, chunk, ledger, pos, prior, placed, expiresAt);
+    }
+}
@@ -0,0 +1,167 @@
+package com.leo.enchants.monster;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.mob.ZombieEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Shared siege plans for builder zombies.
+ * All zombies converging on the same target follow one {@link ZombieBuildPathfinder.Plan},
+ * so the number of searches scales with the number of targets instead of the number of zombies.
+ * Each block in the plan is placed by whichever zombie is closest to it.
+ */
+public final class SiegePlanner {
+
+    // Retire the plan once the target moves this far (squared blocks) from where it was planned
+    private static final double TARGET_MOVE_TOLERANCE_SQ = 9.0;
+
+    // Drop plans nobody has used for this many ticks
+    private static final int IDLE_TIMEOUT = 100;
+
+    // A builder claim expires if the builder stops refreshing it
+    private static final int CLAIM_TIMEOUT = 20;
+
+    // Wait after a failed search before trying again for the same target
+    private static final int FAILED_SEARCH_DELAY = 40;
+
+    // World -> target UUID -> siege (weak so unloaded worlds are dropped)
+    private static final Map<World, Map<UUID, Siege>> SIEGES = new WeakHashMap<>();
+
+    private SiegePlanner() {}
+
+    /**
+     * A plan shared by every zombie attacking one target.
+     */
+    public static final class Siege {
+        private final ZombieBuildPathfinder.Plan plan;
+        private final BlockPos origin;
+        private final long failedUntil;
+        private long lastUsed;
+        private boolean retired;
+
+        // Current builder claim
+        private int claimedStep = -1;
+        @Nullable private UUID builderId;
+        private double builderDistSq;
+        private long claimTick;
+
+        private Siege(@Nullable ZombieBuildPathfinder.Plan plan, BlockPos origin, long time, long failedUntil) {
+            this.plan = plan;
+            this.origin = origin;
+            this.lastUsed = time;
+            this.failedUntil = failedUntil;
+        }
+
+        public ZombieBuildPathfinder.Plan plan() {
+            return plan;
+        }
+
+        /**
+         * Where the route starts.
+         */
+        public BlockPos origin() {
+            return origin;
+        }
+        
+        /**
+         * Where zombies join the siege by walking: the route start, or the top of the first
+         * pillar block once it's placed, since that block fills the route start.
+         */
+        public BlockPos entry(World world) {
+            ZombieBuildPathfinder.Step first = plan.steps().get(0);
+            if (first.move() == ZombieBuildPathfinder.Move.PILLAR
+                && !ZombieBuildPathfinder.canPlaceAt(world, first.place())) {
+                return first.stand();
+            }
+            return origin;
+        }
+
+        /**
+         * Check that the plan still applies: not retired and the target hasn't moved away.
+         * A target that moved retires the plan for everyone. Checking keeps the plan alive.
+         */
+        public boolean isCurrentFor(LivingEntity target) {
+            if (retired) {
+                return false;
+            }
+            if (target.getBlockPos().getSquaredDistance(plan.target()) > TARGET_MOVE_TOLERANCE_SQ) {
+                retire();
+                return false;
+            }
+            lastUsed = target.getWorld().getTime();
+            return true;
+        }
+
+        /**
+         * Mark the plan as outdated so the next zombie to ask builds a new one.
+         */
+        public void retire() {
+            retired = true;
+        }
+
+        /**
+         * Ask to place the block of {@code stepIndex}. The closest zombie wins;
+         * a claim that isn't refreshed expires.
+         * @return true if this zombie should place the block now
+         */
+        public boolean claimStep(ZombieEntity zombie, int stepIndex, long time) {
+            BlockPos place = plan.steps().get(stepIndex).place();
+            double distSq = place == null ? 0.0 : zombie.getBlockPos().getSquaredDistance(place);
+            UUID id = zombie.getUuid();
+
+            boolean expired = time - claimTick > CLAIM_TIMEOUT;
+            if (claimedStep != stepIndex || builderId == null || expired || distSq < builderDistSq) {
+                claimedStep = stepIndex;
+                builderId = id;
+                builderDistSq = distSq;
+            }
+
+            if (id.equals(builderId)) {
+                claimTick = time;
+                builderDistSq = distSq;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Get the siege plan for this zombie's target, planning one from the zombie's
+     * position if none exists yet.
+     * @return the shared siege, or null if none could be planned this tick
+     */
+    @Nullable
+    public static Siege join(ZombieEntity zombie, LivingEntity target) {
+        World world = zombie.getWorld();
+        long time = world.getTime();
+        Map<UUID, Siege> sieges = SIEGES.computeIfAbsent(world, w -> new HashMap<>());
+        sieges.values().removeIf(siege -> time - siege.lastUsed > IDLE_TIMEOUT);
+
+        Siege siege = sieges.get(target.getUuid());
+        if (siege != null && siege.plan != null && siege.isCurrentFor(target)) {
+            return siege;
+        }
+        if (siege != null && siege.plan == null && time < siege.failedUntil) {
+            return null; // Recent search for this target found nothing
+        }
+
+        if (!EnhancementBudget.tryAcquireSearch(world, target)) {
+            return null;
+        }
+
+        BlockPos origin = ZombieBuildPathfinder.standingPos(zombie);
+        long searchStart = System.nanoTime();
+        ZombieBuildPathfinder.Plan plan = ZombieBuildPathfinder.findPlan(world, origin, target.getBlockPos());
+        EnhancementBudget.chargeSearch(world, target, searchStart);
+        siege = new Siege(plan, origin, time, plan == null ? time + FAILED_SEARCH_DELAY : time);
+        sieges.put(target.getUuid(), siege);
+        return plan == null ? null : siege;
+    }
+}
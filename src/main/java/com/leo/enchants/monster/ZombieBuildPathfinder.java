@@ -0,0 +1,317 @@
+package com.leo.enchants.monster;
+
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Bounded A* search for zombies that can place blocks.
+ * Besides walking, stepping up and dropping down, a zombie can bridge a gap,
+ * build a stair step or pillar straight up. Those moves cost extra per block,
+ * so one search returns both the route and the ordered list of blocks to place,
+ * and only builds where walking isn't possible.
+ */
+public final class ZombieBuildPathfinder {
+
+    // Search limits
+    private static final int MAX_NODES = 800;
+    private static final int MAX_RANGE = 24;
+    private static final int MAX_DROP = 3;
+
+    // Move costs (walking one block costs 1.0)
+    private static final double STEP_UP_COST = 0.5;
+    private static final double DROP_COST = 0.5;
+    private static final double PLACE_COST = 4.0;
+
+    // Floors whose top sits this far below the block's top (farmland, paths) still count as floor
+    private static final double LOW_FLOOR_DEPTH = 1.0 / 16.0;
+
+    private ZombieBuildPathfinder() {}
+
+    /**
+     * How a zombie gets from one step to the next.
+     */
+    public enum Move {
+        WALK,
+        STEP_UP,
+        DROP,
+        BRIDGE,  // place a floor block ahead, then walk onto it
+        STAIR,   // place a block ahead at feet level, then step up onto it
+        PILLAR   // jump and place a block underneath
+    }
+
+    /**
+     * One step of a plan: where to stand afterwards and, for build moves, what to place first.
+     */
+    public record Step(Move move, BlockPos stand, @Nullable BlockPos place) {}
+
+    /**
+     * A route toward {@code target}, in order, starting after the zombie's current position.
+     */
+    public record Plan(BlockPos target, List<Step> steps, int placements) {
+
+        /**
+         * Check that the remaining steps still match the world:
+         * every stand position is open and every block to place is either already there or placeable.
+         */
+        public boolean isStillValid(World world, int fromIndex) {
+            for (int i = fromIndex; i < steps.size(); i++) {
+                Step step = steps.get(i);
+                if (step.place() != null
+                    && !isSolid(world, step.place())
+                    && !canPlaceAt(world, step.place())) {
+                    return false;
+                }
+                if (!isPassable(world, step.stand()) || !isPassable(world, step.stand().up())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Search for a route from {@code start} to a spot within melee reach of {@code target}.
+     * @return the plan (always at least one step), or null if nothing was found within the
+     *         node budget or {@code start} is already within reach
+     */
+    @Nullable
+    public static Plan findPlan(World world, BlockPos start, BlockPos target) {
+        PriorityQueue<Node> open = new PriorityQueue<>((a, b) -> Double.compare(a.f, b.f));
+        Long2DoubleOpenHashMap bestCost = new Long2DoubleOpenHashMap();
+        bestCost.defaultReturnValue(Double.MAX_VALUE);
+
+        Node startNode = new Node(start, null, null, null, 0.0, heuristic(start, target));
+        open.add(startNode);
+        bestCost.put(start.asLong(), 0.0);
+
+        int expanded = 0;
+        while (!open.isEmpty() && expanded < MAX_NODES) {
+            Node current = open.poll();
+            if (current.g > bestCost.get(current.pos.asLong())) {
+                continue; // Stale queue entry
+            }
+
+            if (isGoal(current.pos, target)) {
+                // Already in reach from the start: there is nothing to plan
+                return current.parent == null ? null : buildPlan(current, target);
+            }
+            expanded++;
+
+            for (Node next : neighbors(world, current, start, target)) {
+                long key = next.pos.asLong();
+                if (next.g < bestCost.get(key)) {
+                    bestCost.put(key, next.g);
+                    open.add(next);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Generate every legal move out of a node.
+     */
+    private static List<Node> neighbors(World world, Node node, BlockPos start, BlockPos target) {
+        List<Node> result = new ArrayList<>(8);
+        BlockPos pos = node.pos;
+        boolean headroom = isOpen(world, node, pos.up(2));
+
+        // Pillar: jump and place a block under our feet
+        if (headroom && canPlace(world, node, pos) && !world.isOutOfHeightLimit(pos.up(2))) {
+            result.add(node.child(Move.PILLAR, pos.up(), pos, 1.0 + STEP_UP_COST + PLACE_COST, target));
+        }
+
+        for (Direction dir : Direction.Type.HORIZONTAL) {
+            BlockPos side = pos.offset(dir);
+            if (Math.abs(side.getX() - start.getX()) > MAX_RANGE || Math.abs(side.getZ() - start.getZ()) > MAX_RANGE) {
+                continue;
+            }
+
+            boolean sideOpen = isOpen(world, node, side) && isOpen(world, node, side.up());
+
+            if (sideOpen) {
+                BlockPos floor = side.down();
+                if (isFloor(world, node, floor)) {
+                    // Walk
+                    result.add(node.child(Move.WALK, side, null, 1.0, target));
+                } else {
+                    // Drop down onto solid ground
+                    for (int depth = 1; depth <= MAX_DROP; depth++) {
+                        BlockPos landing = side.down(depth);
+                        if (!isOpen(world, node, landing) || isDangerous(world, landing)) {
+                            break;
+                        }
+                        if (isFloor(world, node, landing.down())) {
+                            result.add(node.child(Move.DROP, landing, null, 1.0 + DROP_COST * depth, target));
+                            break;
+                        }
+                    }
+
+                    // Bridge over the gap
+                    if (canPlace(world, node, floor)) {
+                        result.add(node.child(Move.BRIDGE, side, floor, 1.0 + PLACE_COST, target));
+                    }
+                }
+            } else if (headroom && isOpen(world, node, side.up()) && isOpen(world, node, side.up(2))) {
+                BlockPos above = side.up();
+                if (isFloor(world, node, side)) {
+                    // Step up onto an existing block
+                    result.add(node.child(Move.STEP_UP, above, null, 1.0 + STEP_UP_COST, target));
+                }
+            }
+
+            // Stair: place a block at feet level next to us and step onto it
+            if (headroom
+                && canPlace(world, node, side)
+                && isFloor(world, node, side.down())
+                && isOpen(world, node, side.up())
+                && isOpen(world, node, side.up(2))) {
+                result.add(node.child(Move.STAIR, side.up(), side, 1.0 + STEP_UP_COST + PLACE_COST, target));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Close enough to hit the target: horizontally adjacent and within one block vertically.
+     */
+    private static boolean isGoal(BlockPos pos, BlockPos target) {
+        int dx = pos.getX() - target.getX();
+        int dz = pos.getZ() - target.getZ();
+        int dy = pos.getY() - target.getY();
+        return dx * dx + dz * dz <= 2 && Math.abs(dy) <= 1;
+    }
+
+    private static double heuristic(BlockPos pos, BlockPos target) {
+        return Math.sqrt(pos.getSquaredDistance(target));
+    }
+
+    private static Plan buildPlan(Node goal, BlockPos target) {
+        List<Step> steps = new ArrayList<>();
+        int placements = 0;
+        for (Node node = goal; node.parent != null; node = node.parent) {
+            steps.add(new Step(node.move, node.pos, node.placed));
+            if (node.placed != null) {
+                placements++;
+            }
+        }
+        Collections.reverse(steps);
+        return new Plan(target, steps, placements);
+    }
+
+    // ===== World queries (planned blocks along the current branch count as solid) =====
+
+    private static boolean isOpen(World world, Node node, BlockPos pos) {
+        return !node.isPlanned(pos) && isPassable(world, pos);
+    }
+
+    private static boolean isFloor(World world, Node node, BlockPos pos) {
+        return node.isPlanned(pos) || isSolid(world, pos);
+    }
+
+    private static boolean canPlace(World world, Node node, BlockPos pos) {
+        return !node.isPlanned(pos) && canPlaceAt(world, pos);
+    }
+
+    /**
+     * Check if a zombie can stand inside this block (no collision, not lava)
+     */
+    static boolean isPassable(World world, BlockPos pos) {
+        BlockState state = world.getBlockState(pos);
+        return !state.isOf(Blocks.LAVA) && state.getCollisionShape(world, pos).isEmpty();
+    }
+
+    /**
+     * Check if this block can be stood on: its top face is a full square (full blocks, glass,
+     * top slabs, upside-down stairs), or it is a full-width block sitting just below its top
+     * (farmland, paths)
+     */
+    static boolean isSolid(World world, BlockPos pos) {
+        BlockState state = world.getBlockState(pos);
+        if (state.isSideSolidFullSquare(world, pos, Direction.UP)) {
+            return true;
+        }
+        VoxelShape shape = state.getCollisionShape(world, pos);
+        return !shape.isEmpty()
+            && shape.getMax(Direction.Axis.Y) >= 1.0 - LOW_FLOOR_DEPTH
+            && Block.isFaceFullSquare(shape, Direction.DOWN);
+    }
+
+    /**
+     * The position an entity stands in, as used by plans. Standing on farmland or a path
+     * puts the feet just below the block above, which still counts as standing in it.
+     */
+    public static BlockPos standingPos(Entity entity) {
+        return BlockPos.ofFloored(entity.getX(), entity.getY() + LOW_FLOOR_DEPTH + 1.0E-5, entity.getZ());
+    }
+
+    /**
+     * Check if we can place a block at the given position
+     */
+    public static boolean canPlaceAt(World world, BlockPos pos) {
+        if (world.isOutOfHeightLimit(pos)) {
+            return false;
+        }
+        BlockState currentState = world.getBlockState(pos);
+
+        return currentState.isAir() ||
+               currentState.isOf(Blocks.WATER) ||
+               currentState.isOf(Blocks.LAVA) ||
+               currentState.isReplaceable();
+    }
+
+    private static boolean isDangerous(World world, BlockPos pos) {
+        BlockState state = world.getBlockState(pos);
+        return state.isOf(Blocks.LAVA) || state.isOf(Blocks.FIRE) || state.isOf(Blocks.POWDER_SNOW);
+    }
+
+    /**
+     * Search node. Each node remembers the block its move placed so later moves on the
+     * same branch can stand on it.
+     */
+    private static final class Node {
+        private final BlockPos pos;
+        @Nullable private final Node parent;
+        @Nullable private final Move move;
+        @Nullable private final BlockPos placed;
+        private final double g;
+        private final double f;
+
+        private Node(BlockPos pos, @Nullable Node parent, @Nullable Move move, @Nullable BlockPos placed, double g, double h) {
+            this.pos = pos;
+            this.parent = parent;
+            this.move = move;
+            this.placed = placed;
+            this.g = g;
+            this.f = g + h;
+        }
+
+        private Node child(Move move, BlockPos pos, @Nullable BlockPos placed, double cost, BlockPos target) {
+            return new Node(pos, this, move, placed, g + cost, heuristic(pos, target));
+        }
+
+        private boolean isPlanned(BlockPos pos) {
+            for (Node node = this; node != null; node = node.parent) {
+                if (pos.equals(node.placed)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
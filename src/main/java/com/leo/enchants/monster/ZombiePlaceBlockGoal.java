@@ -1,5 +1,6 @@
 package com.leo.enchants.monster;
 
+import com.leo.enchants.logic.SectionVersions;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -7,19 +8,21 @@ import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.ai.goal.Goal;
 import net.minecraft.entity.ai.pathing.Path;
 import net.minecraft.entity.mob.ZombieEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.sound.SoundCategory;
 import net.minecraft.sound.SoundEvents;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
-import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 
 import java.util.EnumSet;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * AI Goal that allows zombies to place blocks when they can't reach their target.
  * Zombies will bridge gaps, build up to reach higher players, and cross lava/void.
+ * The route and the blocks to place come from a {@link SiegePlanner} plan shared by every
+ * zombie attacking the same target; each block is placed by the zombie closest to it.
  */
 public class ZombiePlaceBlockGoal extends Goal {
     
@@ -41,10 +44,31 @@ public class ZombiePlaceBlockGoal extends Goal {
     private static final int PLACE_COOLDOWN = 10;
     private int cooldownTimer = 0;
     
+    // Shared siege plan and our position along it (-1 = still walking to the route start)
+    private static final int STEP_TIMEOUT = 60;            // Leave the siege if a single step takes 3 seconds
+    private static final int VALIDATE_INTERVAL = 10;       // Re-check the remaining route twice a second
+    private static final int REJOIN_DELAY = 10;            // Wait before asking for a plan again
+    private SiegePlanner.Siege siege = null;
+    private int stepIndex = -1;
+    private int stepTicks = 0;
+    private int rejoinDelay = 0;
+    
     // Track last known reachable state to avoid flickering
     private int unreachableTicks = 0;
     private static final int UNREACHABLE_THRESHOLD = 10; // Must be unreachable for 0.5 seconds
     
+    // Cached result of the last full path search, reused until the target or zombie
+    // moves to another block, a block changes between them, or the result gets too old
+    private static final int REACHABILITY_MAX_AGE = 40;
+    private static final int REACHABILITY_WATCH_MARGIN = 2; // Blocks around the zombie-target box to watch
+    private UUID cachedTargetId = null;
+    private BlockPos cachedTargetPos = null;
+    private BlockPos cachedZombiePos = null;
+    private long cachedSignature = 0;
+    private long cachedAt = 0;
+    private boolean cacheValid = false;
+    private boolean cachedReachable = true;
+    
     public ZombiePlaceBlockGoal(ZombieEntity zombie) {
         this.zombie = zombie;
         this.setControls(EnumSet.of(Control.MOVE, Control.LOOK));
@@ -58,6 +82,11 @@ public class ZombiePlaceBlockGoal extends Goal {
             return false;
         }
         
+        // Hold off on building while the server is running behind
+        if (EnhancementBudget.isServerBehind(zombie.getWorld())) {
+            return false;
+        }
+        
         // Check if zombie can actually reach the target
         if (canReachTarget(target)) {
             unreachableTicks = 0;
@@ -73,7 +102,9 @@ public class ZombiePlaceBlockGoal extends Goal {
     }
     
     /**
-     * Check if zombie can reach the target through normal pathfinding
+     * Check if zombie can reach the target through normal pathfinding.
+     * Cheap checks run every call; the full path search is cached and
+     * limited by {@link EnhancementBudget}.
      */
     private boolean canReachTarget(LivingEntity target) {
         // First check: is the target close enough to attack already?
@@ -82,13 +113,7 @@ public class ZombiePlaceBlockGoal extends Goal {
             return true;
         }
         
-        // Second check: can we pathfind to within attack range?
-        Path path = zombie.getNavigation().findPathTo(target, 1);
-        if (path != null && path.reachesTarget()) {
-            return true;
-        }
-        
-        // Third check: is the zombie already navigating toward target successfully?
+        // Second check: is the zombie already navigating toward target successfully?
         Path currentPath = zombie.getNavigation().getCurrentPath();
         if (currentPath != null && !currentPath.isFinished()) {
             // Check if path end is close to target
@@ -103,7 +128,65 @@ public class ZombiePlaceBlockGoal extends Goal {
             }
         }
         
-        return false;
+        // Third check: can we pathfind to within attack range?
+        long time = zombie.getWorld().getTime();
+        boolean sameTarget = target.getUuid().equals(cachedTargetId);
+        if (sameTarget && isCacheFresh(target, time)) {
+            return cachedReachable;
+        }
+        
+        if (!EnhancementBudget.tryAcquireSearch(zombie.getWorld(), target)) {
+            // Out of budget this tick - keep the last answer for this target, and
+            // assume reachable for a new one so we never start building blind
+            return sameTarget ? cachedReachable : true;
+        }
+        
+        long searchStart = System.nanoTime();
+        Path path = zombie.getNavigation().findPathTo(target, 1);
+        EnhancementBudget.chargeSearch(zombie.getWorld(), target, searchStart);
+        cachedReachable = path != null && path.reachesTarget();
+        cachedTargetId = target.getUuid();
+        cachedTargetPos = target.getBlockPos();
+        cachedZombiePos = zombie.getBlockPos();
+        cachedSignature = watchedSignature(cachedZombiePos, cachedTargetPos);
+        // Stagger expiry by entity id so a horde doesn't refresh on the same tick
+        cachedAt = time + (zombie.getId() % 10);
+        cacheValid = true;
+        return cachedReachable;
+    }
+    
+    /**
+     * The cached search is still valid while neither side has moved to another block,
+     * no block between them has changed, and it is younger than {@link #REACHABILITY_MAX_AGE}.
+     */
+    private boolean isCacheFresh(LivingEntity target, long time) {
+        return cacheValid
+            && time - cachedAt < REACHABILITY_MAX_AGE
+            && target.getBlockPos().equals(cachedTargetPos)
+            && zombie.getBlockPos().equals(cachedZombiePos)
+            && cachedSignature != 0
+            && watchedSignature(cachedZombiePos, cachedTargetPos) == cachedSignature;
+    }
+    
+    /**
+     * Fingerprint of the chunk sections around the zombie and its target; it changes as soon
+     * as a block in them is set (a player walling in, a bridge broken), or 0 if they aren't loaded.
+     */
+    private long watchedSignature(BlockPos zombiePos, BlockPos targetPos) {
+        return SectionVersions.signature(zombie.getWorld(),
+            Math.min(zombiePos.getX(), targetPos.getX()) - REACHABILITY_WATCH_MARGIN,
+            Math.min(zombiePos.getY(), targetPos.getY()) - REACHABILITY_WATCH_MARGIN,
+            Math.min(zombiePos.getZ(), targetPos.getZ()) - REACHABILITY_WATCH_MARGIN,
+            Math.max(zombiePos.getX(), targetPos.getX()) + REACHABILITY_WATCH_MARGIN,
+            Math.max(zombiePos.getY(), targetPos.getY()) + REACHABILITY_WATCH_MARGIN,
+            Math.max(zombiePos.getZ(), targetPos.getZ()) + REACHABILITY_WATCH_MARGIN);
+    }
+    
+    /**
+     * Force the next reachability check to run a fresh search.
+     */
+    private void invalidateReachability() {
+        cacheValid = false;
     }
     
     @Override
@@ -113,6 +196,11 @@ public class ZombiePlaceBlockGoal extends Goal {
             return false;
         }
         
+        // While following a siege plan, only the cheap melee-range check runs
+        if (siege != null) {
+            return zombie.squaredDistanceTo(target) >= 4.0;
+        }
+        
         // Stop if we can now reach the target
         if (canReachTarget(target)) {
             unreachableTicks = 0;
@@ -125,6 +213,9 @@ public class ZombiePlaceBlockGoal extends Goal {
     @Override
     public void start() {
         cooldownTimer = 0;
+        rejoinDelay = 0;
+        leaveSiege();
+        zombie.getNavigation().stop();
         
         // Choose a consistent block type for this zombie
         if (chosenBlock == null) {
@@ -137,248 +228,157 @@ public class ZombiePlaceBlockGoal extends Goal {
         LivingEntity target = zombie.getTarget();
         if (target == null) return;
         
-        // Cooldown check
         if (cooldownTimer > 0) {
             cooldownTimer--;
-            return;
         }
         
         // Look at target
         zombie.getLookControl().lookAt(target, 30.0F, 30.0F);
         
-        BlockPos zombiePos = zombie.getBlockPos();
-        BlockPos targetPos = target.getBlockPos();
+        // Drop the plan if it was retired, the target wandered off or the world changed along it
+        if (siege != null && needsReplan(target)) {
+            leaveSiege();
+        }
         
-        // Priority 1: Need to go UP (target is higher)
-        if (targetPos.getY() > zombiePos.getY()) {
-            if (tryBuildUp(target)) {
+        if (siege == null) {
+            if (rejoinDelay > 0) {
+                rejoinDelay--;
                 return;
             }
+            siege = SiegePlanner.join(zombie, target);
+            if (siege == null) {
+                rejoinDelay = REJOIN_DELAY;
+                return;
+            }
+            stepIndex = findEntryStep();
         }
         
-        // Priority 2: Need to bridge a gap
-        if (tryBridge(target)) {
-            return;
-        }
-        
-        // Priority 3: General path assistance
-        tryGeneralBuild(target);
+        followPlan();
     }
     
     /**
-     * Build upward to reach a higher target.
-     * Places block adjacent to zombie, then zombie walks onto it.
+     * Check whether the shared plan no longer leads to the target.
+     * World changes retire the plan for everyone; being stuck only drops this zombie out.
      */
-    private boolean tryBuildUp(LivingEntity target) {
-        BlockPos zombiePos = zombie.getBlockPos();
-        World world = zombie.getWorld();
-        
-        Vec3d direction = target.getPos().subtract(zombie.getPos()).normalize();
-        Direction primaryDir = Direction.getFacing(direction.x, 0, direction.z);
-        
-        // Strategy: Place a block at zombie's level in the direction of target
-        // This creates a step the zombie can walk up onto
-        
-        // Try primary direction first
-        BlockPos stepPos = zombiePos.offset(primaryDir);
-        if (tryPlaceStep(stepPos)) {
+    private boolean needsReplan(LivingEntity target) {
+        if (!siege.isCurrentFor(target)) {
             return true;
         }
-        
-        // Try other horizontal directions
-        for (Direction dir : Direction.Type.HORIZONTAL) {
-            if (dir == primaryDir) continue;
-            
-            stepPos = zombiePos.offset(dir);
-            if (tryPlaceStep(stepPos)) {
-                return true;
+        if (stepTicks > STEP_TIMEOUT) {
+            if (stepIndex < 0) {
+                // Couldn't even get onto the route; rejoining would just walk into the same wall
+                siege.retire();
             }
+            return true; // Stuck on this step
         }
-        
-        // If all else fails, try placing directly adjacent at same level
-        // to create a pillar the zombie can climb by placing blocks beside it
-        for (Direction dir : Direction.Type.HORIZONTAL) {
-            BlockPos adjacentUp = zombiePos.offset(dir).up();
-            BlockPos adjacentBase = adjacentUp.down();
-            
-            // Place a raised block that zombie can jump to
-            if (world.getBlockState(adjacentBase).isSolidBlock(world, adjacentBase) &&
-                canPlaceBlockAt(adjacentUp) && 
-                hasAdjacentSolid(adjacentUp) &&
-                world.getBlockState(adjacentUp.up()).isAir()) {
-                
-                placeBlock(adjacentUp);
-                cooldownTimer = PLACE_COOLDOWN;
-                return true;
-            }
+        // Re-validate the rest of the route every few ticks
+        if (stepTicks > 0 && stepTicks % VALIDATE_INTERVAL == 0
+            && !siege.plan().isStillValid(zombie.getWorld(), Math.max(stepIndex, 0))) {
+            siege.retire();
+            return true;
         }
-        
         return false;
     }
     
     /**
-     * Try to place a step block at the given position
+     * Find where to enter the route: the step after the stand position we're on,
+     * 0 at the route start, or -1 if we still need to walk to {@link SiegePlanner.Siege#entry}.
      */
-    private boolean tryPlaceStep(BlockPos stepPos) {
-        World world = zombie.getWorld();
-        BlockPos below = stepPos.down();
-        
-        // Check if we can place here and zombie can use it
-        if (canPlaceBlockAt(stepPos) && 
-            hasAdjacentSolid(stepPos) &&
-            world.getBlockState(stepPos.up()).isAir() &&
-            world.getBlockState(stepPos.up(2)).isAir()) {
-            
-            placeBlock(stepPos);
-            cooldownTimer = PLACE_COOLDOWN;
-            
-            // Move toward the new step
-            zombie.getNavigation().startMovingTo(
-                stepPos.getX() + 0.5, 
-                stepPos.getY() + 1, 
-                stepPos.getZ() + 0.5, 
-                1.0
-            );
-            return true;
+    private int findEntryStep() {
+        BlockPos pos = ZombieBuildPathfinder.standingPos(zombie);
+        if (pos.equals(siege.origin())) {
+            return 0;
         }
-        
-        return false;
+        List<ZombieBuildPathfinder.Step> steps = siege.plan().steps();
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            if (steps.get(i).stand().equals(pos)) {
+                return i + 1;
+            }
+        }
+        return -1;
     }
     
     /**
-     * Bridge across gaps toward target
+     * Execute the current step: place its block if needed, then move onto its stand position.
      */
-    private boolean tryBridge(LivingEntity target) {
-        BlockPos zombiePos = zombie.getBlockPos();
+    private void followPlan() {
         World world = zombie.getWorld();
-        
-        Vec3d direction = target.getPos().subtract(zombie.getPos()).normalize();
-        Direction primaryDir = Direction.getFacing(direction.x, 0, direction.z);
-        
-        // Look for gaps in front of zombie that need bridging
-        for (int distance = 1; distance <= 4; distance++) {
-            BlockPos checkPos = zombiePos.offset(primaryDir, distance);
-            BlockPos floorPos = checkPos.down();
-            
-            // Check if this is a gap that needs bridging
-            if (isGapOrDanger(floorPos)) {
-                // Find first valid place position
-                for (int d = 1; d <= distance; d++) {
-                    BlockPos bridgePos = zombiePos.offset(primaryDir, d).down();
-                    
-                    if (canPlaceBlockAt(bridgePos) && hasAdjacentSolid(bridgePos)) {
-                        placeBlock(bridgePos);
-                        cooldownTimer = PLACE_COOLDOWN;
-                        return true;
-                    }
+        List<ZombieBuildPathfinder.Step> steps = siege.plan().steps();
+        
+        // Walk to the route with vanilla navigation, hopping on at any stand position we pass
+        if (stepIndex < 0) {
+            stepIndex = findEntryStep();
+            if (stepIndex < 0) {
+                stepTicks++;
+                if (zombie.getNavigation().isIdle()) {
+                    BlockPos entry = siege.entry(world);
+                    zombie.getNavigation().startMovingTo(entry.getX() + 0.5, entry.getY(), entry.getZ() + 0.5, 1.0);
                 }
+                return;
             }
+            zombie.getNavigation().stop();
+            stepTicks = 0;
+        }
+        
+        if (stepIndex >= steps.size()) {
+            finishRoute();
+            return;
         }
         
-        // Check other directions too
-        for (Direction dir : Direction.Type.HORIZONTAL) {
-            if (dir == primaryDir) continue;
+        ZombieBuildPathfinder.Step step = steps.get(stepIndex);
+        BlockPos place = step.place();
+        
+        if (place != null && ZombieBuildPathfinder.canPlaceAt(world, place)) {
+            // Only the zombie closest to the block builds it; the rest wait their turn,
+            // which counts toward the step timeout too
+            stepTicks++;
+            if (!siege.claimStep(zombie, stepIndex, world.getTime())) {
+                return;
+            }
             
-            BlockPos checkPos = zombiePos.offset(dir);
-            BlockPos floorPos = checkPos.down();
+            if (step.move() == ZombieBuildPathfinder.Move.PILLAR) {
+                // Jump in place and place the block once our feet clear it
+                if (zombie.isOnGround()) {
+                    zombie.getJumpControl().setActive();
+                } else if (zombie.getY() >= place.getY() + 1.0 && cooldownTimer <= 0) {
+                    placeBlock(place);
+                    cooldownTimer = PLACE_COOLDOWN;
+                }
+                return;
+            }
             
-            if (isGapOrDanger(floorPos) && canPlaceBlockAt(floorPos) && hasAdjacentSolid(floorPos)) {
-                placeBlock(floorPos);
+            if (cooldownTimer <= 0) {
+                placeBlock(place);
                 cooldownTimer = PLACE_COOLDOWN;
-                return true;
             }
+            return;
         }
         
-        return false;
-    }
-    
-    /**
-     * General building to help reach target
-     */
-    private boolean tryGeneralBuild(LivingEntity target) {
-        BlockPos zombiePos = zombie.getBlockPos();
-        World world = zombie.getWorld();
-        
-        Vec3d direction = target.getPos().subtract(zombie.getPos()).normalize();
-        Direction primaryDir = Direction.getFacing(direction.x, 0, direction.z);
-        
-        // Try placing floor in direction of target
-        BlockPos frontPos = zombiePos.offset(primaryDir);
-        BlockPos frontFloor = frontPos.down();
-        
-        if (canPlaceBlockAt(frontFloor) && hasAdjacentSolid(frontFloor)) {
-            placeBlock(frontFloor);
-            cooldownTimer = PLACE_COOLDOWN;
-            return true;
-        }
-        
-        return false;
-    }
-    
-    /**
-     * Check if a position is a dangerous gap (lava, deep void, water)
-     */
-    private boolean isGapOrDanger(BlockPos pos) {
-        World world = zombie.getWorld();
-        BlockState state = world.getBlockState(pos);
-        
-        // Lava is always dangerous
-        if (state.isOf(Blocks.LAVA)) {
-            return true;
-        }
-        
-        // Water blocks path
-        if (state.isOf(Blocks.WATER)) {
-            return true;
-        }
+        stepTicks++;
+        BlockPos stand = step.stand();
+        zombie.getMoveControl().moveTo(stand.getX() + 0.5, stand.getY(), stand.getZ() + 0.5, 1.0);
         
-        // Check for void/deep gap
-        if (state.isAir() || state.isReplaceable()) {
-            // Check how deep the gap is
-            int depth = 0;
-            for (int i = 1; i <= 5; i++) {
-                BlockState below = world.getBlockState(pos.down(i));
-                if (below.isSolidBlock(world, pos.down(i))) {
-                    break;
-                }
-                if (below.isOf(Blocks.LAVA)) {
-                    return true; // Lava below
-                }
-                depth++;
+        if (ZombieBuildPathfinder.standingPos(zombie).equals(stand)) {
+            stepIndex++;
+            stepTicks = 0;
+            if (stepIndex >= steps.size()) {
+                finishRoute();
             }
-            // Gap of 3+ blocks is dangerous
-            return depth >= 3;
         }
-        
-        return false;
     }
     
     /**
-     * Check if we can place a block at the given position
+     * Route finished - the reachability check decides what happens next.
      */
-    private boolean canPlaceBlockAt(BlockPos pos) {
-        World world = zombie.getWorld();
-        BlockState currentState = world.getBlockState(pos);
-        
-        return currentState.isAir() || 
-               currentState.isOf(Blocks.WATER) || 
-               currentState.isOf(Blocks.LAVA) ||
-               currentState.isReplaceable();
+    private void finishRoute() {
+        leaveSiege();
+        invalidateReachability();
     }
     
-    /**
-     * Check if there's an adjacent solid block to place against
-     */
-    private boolean hasAdjacentSolid(BlockPos pos) {
-        World world = zombie.getWorld();
-        
-        for (Direction dir : Direction.values()) {
-            BlockPos adjacent = pos.offset(dir);
-            if (world.getBlockState(adjacent).isSolidBlock(world, adjacent)) {
-                return true;
-            }
-        }
-        return false;
+    private void leaveSiege() {
+        siege = null;
+        stepIndex = -1;
+        stepTicks = 0;
     }
     
     /**
@@ -387,8 +387,13 @@ public class ZombiePlaceBlockGoal extends Goal {
     private void placeBlock(BlockPos pos) {
         World world = zombie.getWorld();
         
-        if (!world.isClient() && chosenBlock != null) {
-            world.setBlockState(pos, chosenBlock.getDefaultState());
+        if (world instanceof ServerWorld serverWorld && chosenBlock != null) {
+            BlockState prior = world.getBlockState(pos);
+            BlockState placed = chosenBlock.getDefaultState();
+            world.setBlockState(pos, placed);
+            // Track the block so it decays later and counts toward the chunk cap
+            MobBlockLedger.recordPlacement(serverWorld, pos, prior, placed);
+            invalidateReachability();
             world.playSound(null, pos, SoundEvents.BLOCK_GRAVEL_PLACE, SoundCategory.HOSTILE, 1.0F, 0.8F + world.random.nextFloat() * 0.4F);
             zombie.swingHand(zombie.getActiveHand());
         }
@@ -397,5 +402,6 @@ public class ZombiePlaceBlockGoal extends Goal {
     @Override
     public void stop() {
         // Don't reset unreachableTicks here - let canStart handle it
+        leaveSiege();
     }
 }
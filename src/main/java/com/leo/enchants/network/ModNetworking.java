@@ -1,27 +1,48 @@
 package com.leo.enchants.network;
 
 import com.leo.enchants.LeoEnchantsMod;
-import com.leo.enchants.logic.FallDamageImmunity;
+import com.leo.enchants.logic.MovementAbilities;
+import com.leo.enchants.logic.PullPrediction;
+import com.leo.enchants.logic.PullTrajectory;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.network.packet.CustomPayload;
-import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.util.Identifier;
 
 public class ModNetworking {
     
-    // Packet ID for double jump fall damage immunity request
-    public static final Identifier DOUBLE_JUMP_IMMUNITY_ID = Identifier.of(LeoEnchantsMod.MOD_ID, "double_jump_immunity");
+    // Packet ID for Double Jump / Strafe input
+    public static final Identifier MOVEMENT_INPUT_ID = Identifier.of(LeoEnchantsMod.MOD_ID, "movement_input");
+    
+    // Packet ID for starting a predicted Grab / Hookshot pull on the client
+    public static final Identifier PULL_START_ID = Identifier.of(LeoEnchantsMod.MOD_ID, "pull_start");
+    
+    /**
+     * Payload with the client's movement ability input: held strafe keys and a double jump bit
+     * (see MovementAbilities for the bits)
+     */
+    public record MovementInputPayload(byte input) implements CustomPayload {
+        public static final Id<MovementInputPayload> ID = new Id<>(MOVEMENT_INPUT_ID);
+        public static final PacketCodec<RegistryByteBuf, MovementInputPayload> CODEC =
+            PacketCodecs.BYTE.<RegistryByteBuf>cast().xmap(MovementInputPayload::new, MovementInputPayload::input);
+        
+        @Override
+        public Id<? extends CustomPayload> getId() {
+            return ID;
+        }
+    }
     
     /**
-     * Payload for requesting fall damage immunity after double jump
+     * Payload telling the client to follow a pull trajectory (an already finished one ends the current pull)
      */
-    public record DoubleJumpImmunityPayload() implements CustomPayload {
-        public static final Id<DoubleJumpImmunityPayload> ID = new Id<>(DOUBLE_JUMP_IMMUNITY_ID);
-        public static final PacketCodec<RegistryByteBuf, DoubleJumpImmunityPayload> CODEC = PacketCodec.unit(new DoubleJumpImmunityPayload());
+    public record PullStartPayload(PullTrajectory trajectory) implements CustomPayload {
+        public static final Id<PullStartPayload> ID = new Id<>(PULL_START_ID);
+        public static final PacketCodec<RegistryByteBuf, PullStartPayload> CODEC =
+            PullTrajectory.PACKET_CODEC.xmap(PullStartPayload::new, PullStartPayload::trajectory);
         
         @Override
         public Id<? extends CustomPayload> getId() {
@@ -33,19 +54,13 @@ public class ModNetworking {
      * Register server-side packet handlers (call from main mod initializer)
      */
     public static void registerServerReceivers() {
-        // Register the payload type
-        PayloadTypeRegistry.playC2S().register(DoubleJumpImmunityPayload.ID, DoubleJumpImmunityPayload.CODEC);
+        // Register the payload types
+        PayloadTypeRegistry.playC2S().register(MovementInputPayload.ID, MovementInputPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(PullStartPayload.ID, PullStartPayload.CODEC);
         
-        // Handle double jump immunity request from client
-        ServerPlayNetworking.registerGlobalReceiver(DoubleJumpImmunityPayload.ID, (payload, context) -> {
-            ServerPlayerEntity player = context.player();
-            // Grant fall damage immunity on the server
-            context.server().execute(() -> {
-                long currentTime = context.server().getOverworld().getTime();
-                FallDamageImmunity.grantImmunity(player, currentTime);
-                LeoEnchantsMod.LOGGER.debug("Granted double jump fall damage immunity to {}", player.getName().getString());
-            });
-        });
+        // Handle movement ability input from client (validated and rate-limited on the server)
+        ServerPlayNetworking.registerGlobalReceiver(MovementInputPayload.ID, (payload, context) ->
+            MovementAbilities.handleInput(context.player(), payload.input()));
     }
     
     /**
@@ -53,15 +68,24 @@ public class ModNetworking {
      */
     public static void registerClientSenders() {
         // Register the payload type on client side too
-        PayloadTypeRegistry.playC2S().register(DoubleJumpImmunityPayload.ID, DoubleJumpImmunityPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(MovementInputPayload.ID, MovementInputPayload.CODEC);
+    }
+    
+    /**
+     * Register client-side packet handlers (call from client mod initializer)
+     */
+    public static void registerClientReceivers() {
+        // Follow pulls started by the server
+        ClientPlayNetworking.registerGlobalReceiver(PullStartPayload.ID, (payload, context) ->
+            PullPrediction.start(payload.trajectory()));
     }
     
     /**
-     * Send double jump immunity request to server (call from client when double jump is triggered)
+     * Send movement ability input to server (call from client when it changes or on a double jump)
      */
-    public static void sendDoubleJumpImmunityRequest() {
-        if (ClientPlayNetworking.canSend(DoubleJumpImmunityPayload.ID)) {
-            ClientPlayNetworking.send(new DoubleJumpImmunityPayload());
+    public static void sendMovementInput(byte input) {
+        if (ClientPlayNetworking.canSend(MovementInputPayload.ID)) {
+            ClientPlayNetworking.send(new MovementInputPayload(input));
         }
     }
 }